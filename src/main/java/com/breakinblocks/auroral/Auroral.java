@@ -12,7 +12,9 @@ import com.breakinblocks.auroral.registry.ModEntities;
 import com.breakinblocks.auroral.registry.ModItems;
 import com.breakinblocks.auroral.registry.ModMenuTypes;
 import com.breakinblocks.auroral.registry.ModParticles;
+import com.breakinblocks.auroral.registry.ModRecipes;
 import com.breakinblocks.auroral.registry.ModSounds;
+import com.breakinblocks.auroral.events.CapabilityEventHandler;
 import com.breakinblocks.auroral.events.EntityEventHandler;
 import com.breakinblocks.auroral.events.ItemEventHandler;
 import com.breakinblocks.auroral.integration.guideme.AuroralGuide;
@@ -49,6 +51,8 @@ public class Auroral {
         ModSounds.SOUNDS.register(eventBus);
         ModParticles.PARTICLES.register(eventBus);
         ModMenuTypes.MENU_TYPES.register(eventBus);
+        ModRecipes.RECIPE_TYPES.register(eventBus);
+        ModRecipes.RECIPE_SERIALIZERS.register(eventBus);
 
         // Register entity event handlers (for attributes)
         EntityEventHandler.register(eventBus);
@@ -56,6 +60,9 @@ public class Auroral {
         // Register item event handlers (for modifying vanilla items)
         ItemEventHandler.register(eventBus);
 
+        // Register block entity capabilities (for automation)
+        CapabilityEventHandler.register(eventBus);
+
         // Register network payloads
         AuroralNetworking.register(eventBus);
 
@@ -1,5 +1,6 @@
 package com.breakinblocks.auroral.block;
 
+import com.breakinblocks.auroral.events.AuroraEventHandler;
 import com.breakinblocks.auroral.util.AuroraHelper;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
@@ -116,6 +117,15 @@ public class AuroraBloomBlock extends BushBlock implements BonemealableBlock {
         }
     }
 
+    @Override
+    protected void affectNeighborsAfterRemoval(BlockState state, ServerLevel level, BlockPos pos, boolean movedByPiston) {
+        super.affectNeighborsAfterRemoval(state, level, pos, movedByPiston);
+        // Drop harvested or wilted blooms from the persistent ledger
+        if (!level.getBlockState(pos).is(this)) {
+            AuroraEventHandler.untrackBloomPosition(level, pos);
+        }
+    }
+
     @Override
     public void animateTick(BlockState state, Level level, BlockPos pos, RandomSource random) {
         int age = state.getValue(AGE);
@@ -1,6 +1,5 @@
 package com.breakinblocks.auroral.block;
 
-import com.breakinblocks.auroral.registry.ModBlockEntities;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -16,8 +15,6 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -79,13 +76,14 @@ public class ColdBrewingStandBlock extends BaseEntityBlock {
         return new ColdBrewingStandBlockEntity(pos, state);
     }
 
-    @Nullable
+    /**
+     * Brew completion tick, scheduled by the block entity when a brew starts.
+     */
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (level.isClientSide()) {
-            return null;
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
+        if (level.getBlockEntity(pos) instanceof ColdBrewingStandBlockEntity coldBrewingStand) {
+            coldBrewingStand.onWake(level);
         }
-        return createTickerHelper(blockEntityType, ModBlockEntities.COLD_BREWING_STAND.get(), ColdBrewingStandBlockEntity::serverTick);
     }
 
     @Override
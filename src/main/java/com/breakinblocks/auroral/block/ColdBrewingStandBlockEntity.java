@@ -2,11 +2,16 @@ package com.breakinblocks.auroral.block;
 
 import com.breakinblocks.auroral.inventory.ColdBrewingStandMenu;
 import com.breakinblocks.auroral.registry.ModBlockEntities;
+import com.breakinblocks.auroral.util.BlockEntityWakeQueue;
+import com.breakinblocks.auroral.util.BrewMixCache;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.WorldlyContainer;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -14,27 +19,47 @@ import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.alchemy.PotionBrewing;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BaseContainerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Block entity for the Cold Brewing Stand.
  * Functions like a vanilla brewing stand but uses Snowballs as fuel.
  *
+ * The stand doesn't tick. It sleeps until its inventory changes (menu, hoppers and
+ * other automation all end in {@link #setChanged()}), is woken once on the next level tick,
+ * and while brewing is driven by a single scheduled block tick at the brew's completion time.
+ *
  * Slots:
  * 0-2: Potion bottles
  * 3: Ingredient
  * 4: Fuel (Snowballs)
+ *
+ * Automation faces:
+ * - Top: ingredient
+ * - Sides: bottles, except {@link #FUEL_FACE} which takes Snowball fuel
+ * - Bottom: brewed bottles out (not while a brew is running)
  */
-public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
+public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity implements WorldlyContainer, BlockEntityWakeQueue.Wakeable {
 
     private static final int INGREDIENT_SLOT = 3;
     private static final int FUEL_SLOT = 4;
 
+    /**
+     * Face that automation feeds Snowball fuel through; the other sides take bottles.
+     */
+    public static final Direction FUEL_FACE = Direction.NORTH;
+
+    private static final int[] SLOTS_FOR_UP = new int[]{INGREDIENT_SLOT};
+    private static final int[] SLOTS_FOR_BOTTLES = new int[]{0, 1, 2};
+    private static final int[] SLOTS_FOR_FUEL = new int[]{FUEL_SLOT};
+    private static final int[] SLOTS_FOR_ALL = new int[]{0, 1, 2, INGREDIENT_SLOT, FUEL_SLOT};
+
     /**
      * Fuel per snowball (vanilla blaze powder gives 20).
      * Snowballs give 10 uses each (less efficient but more accessible).
@@ -47,7 +72,8 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
     public static final int BREW_TIME = 400;
 
     private NonNullList<ItemStack> items = NonNullList.withSize(5, ItemStack.EMPTY);
-    private int brewTime;
+    private long brewEndTime; // Game time the current brew completes, 0 when not brewing
+    private int loadedBrewTime; // Brew time read from disk, rebased onto the level's game time in onLoad
     private int fuel;
     private Item ingredient;
 
@@ -58,7 +84,7 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         @Override
         public int get(int index) {
             return switch (index) {
-                case 0 -> brewTime;
+                case 0 -> getBrewTime();
                 case 1 -> fuel;
                 default -> 0;
             };
@@ -67,7 +93,7 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         @Override
         public void set(int index, int value) {
             switch (index) {
-                case 0 -> brewTime = value;
+                case 0 -> setBrewTime(value);
                 case 1 -> fuel = value;
             }
         }
@@ -82,6 +108,28 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         super(ModBlockEntities.COLD_BREWING_STAND.get(), pos, state);
     }
 
+    /**
+     * Gets the remaining brew time in ticks (0 when not brewing).
+     */
+    private int getBrewTime() {
+        if (brewEndTime == 0) {
+            return 0;
+        }
+        if (level == null) {
+            return loadedBrewTime;
+        }
+        return (int) Math.max(0, brewEndTime - level.getGameTime());
+    }
+
+    private void setBrewTime(int brewTime) {
+        loadedBrewTime = brewTime;
+        brewEndTime = brewTime <= 0 ? 0 : (level != null ? level.getGameTime() : 0) + brewTime;
+    }
+
+    private boolean isBrewing() {
+        return brewEndTime != 0;
+    }
+
     @Override
     protected Component getDefaultName() {
         return Component.translatable("block.auroral.cold_brewing_stand");
@@ -111,7 +159,7 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
         // Items are loaded by BaseContainerBlockEntity.loadAdditional
-        this.brewTime = input.getIntOr("BrewTime", 0);
+        setBrewTime(input.getIntOr("BrewTime", 0));
         this.fuel = input.getIntOr("Fuel", 0);
 
         // Load the ingredient item for mid-brew save/load
@@ -128,7 +176,7 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
         // Items are saved by BaseContainerBlockEntity.saveAdditional
-        output.putInt("BrewTime", this.brewTime);
+        output.putInt("BrewTime", getBrewTime());
         output.putInt("Fuel", this.fuel);
 
         // Save the ingredient item for mid-brew save/load
@@ -146,52 +194,86 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         return stack.is(Items.SNOWBALL);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide()) {
+            // Rebase a saved brew onto the current game time - like scheduled ticks,
+            // brewing doesn't progress while the chunk is unloaded
+            setBrewTime(loadedBrewTime);
+            // Resume brewing, or start if the stand was saved ready to brew
+            BlockEntityWakeQueue.wake(level, this);
+        }
+    }
+
+    /**
+     * Wakes the stand on every inventory change. Container mutations (setItem, removeItem,
+     * hopper insertion and extraction, menu slots) all end here; the stand's own updates use
+     * the static {@link #setChanged(Level, BlockPos, BlockState)} and don't wake it.
+     */
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        if (level != null && !level.isClientSide()) {
+            BlockEntityWakeQueue.wake(level, this);
+        }
+    }
+
     /**
-     * Server tick - handles brewing logic.
+     * Handles brewing logic. Runs only when woken by an inventory change or load,
+     * or by the scheduled completion tick (see {@link ColdBrewingStandBlock#tick}).
      */
-    public static void serverTick(Level level, BlockPos pos, BlockState state, ColdBrewingStandBlockEntity blockEntity) {
-        ItemStack fuelStack = blockEntity.items.get(FUEL_SLOT);
+    @Override
+    public void onWake(ServerLevel level) {
+        BlockPos pos = worldPosition;
+        BlockState state = getBlockState();
+        BrewMixCache mixes = BrewMixCache.get(level);
+        boolean canBrew = canBrew(mixes, items);
+        ItemStack ingredientStack = items.get(INGREDIENT_SLOT);
+        boolean changed = false;
+
+        if (isBrewing()) {
+            if (!canBrew || !ingredientStack.is(ingredient)) {
+                // Ingredient or bottles were taken out - cancel the brew
+                brewEndTime = 0;
+                changed = true;
+            } else if (level.getGameTime() >= brewEndTime) {
+                doBrew(level, pos, items, mixes);
+                brewEndTime = 0;
+                changed = true;
+                canBrew = canBrew(mixes, items);
+                ingredientStack = items.get(INGREDIENT_SLOT);
+            } else {
+                scheduleCompletion(level);
+            }
+        }
 
         // Consume fuel if needed
-        if (blockEntity.fuel <= 0 && isValidFuel(fuelStack)) {
-            blockEntity.fuel = FUEL_PER_SNOWBALL;
+        ItemStack fuelStack = items.get(FUEL_SLOT);
+        if (fuel <= 0 && isValidFuel(fuelStack)) {
+            fuel = FUEL_PER_SNOWBALL;
             fuelStack.shrink(1);
-            setChanged(level, pos, state);
+            changed = true;
         }
 
-        PotionBrewing potionBrewing = level.potionBrewing();
-        boolean canBrew = canBrew(potionBrewing, blockEntity.items);
-        boolean isBrewing = blockEntity.brewTime > 0;
-        ItemStack ingredientStack = blockEntity.items.get(INGREDIENT_SLOT);
-
-        if (isBrewing) {
-            blockEntity.brewTime--;
-            boolean brewingComplete = blockEntity.brewTime == 0;
-
-            if (brewingComplete && canBrew) {
-                doBrew(level, pos, blockEntity.items, potionBrewing);
-            } else if (!canBrew || !ingredientStack.is(blockEntity.ingredient)) {
-                blockEntity.brewTime = 0;
-            }
+        if (!isBrewing() && canBrew && fuel > 0) {
+            fuel--;
+            setBrewTime(BREW_TIME);
+            ingredient = ingredientStack.getItem();
+            scheduleCompletion(level);
+            changed = true;
+        }
 
-            setChanged(level, pos, state);
-        } else if (canBrew && blockEntity.fuel > 0) {
-            blockEntity.fuel--;
-            blockEntity.brewTime = BREW_TIME;
-            blockEntity.ingredient = ingredientStack.getItem();
+        if (changed) {
             setChanged(level, pos, state);
         }
 
         // Update block state for bottles
-        boolean[] hasBottle = new boolean[3];
-        for (int i = 0; i < 3; i++) {
-            hasBottle[i] = !blockEntity.items.get(i).isEmpty();
-        }
-
         BlockState currentState = state;
         for (int i = 0; i < 3; i++) {
-            if (state.getValue(ColdBrewingStandBlock.HAS_BOTTLE[i]) != hasBottle[i]) {
-                currentState = currentState.setValue(ColdBrewingStandBlock.HAS_BOTTLE[i], hasBottle[i]);
+            boolean hasBottle = !items.get(i).isEmpty();
+            if (state.getValue(ColdBrewingStandBlock.HAS_BOTTLE[i]) != hasBottle) {
+                currentState = currentState.setValue(ColdBrewingStandBlock.HAS_BOTTLE[i], hasBottle);
             }
         }
 
@@ -200,10 +282,21 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         }
     }
 
+    /**
+     * Schedules the block tick that completes the current brew, unless one is already pending.
+     * A pending tick from a cancelled brew fires early and simply reschedules.
+     */
+    private void scheduleCompletion(ServerLevel level) {
+        Block block = getBlockState().getBlock();
+        if (!level.getBlockTicks().hasScheduledTick(worldPosition, block)) {
+            level.scheduleTick(worldPosition, block, Math.max(1, getBrewTime()));
+        }
+    }
+
     /**
      * Checks if brewing can proceed.
      */
-    private static boolean canBrew(PotionBrewing brewing, NonNullList<ItemStack> items) {
+    private static boolean canBrew(BrewMixCache mixes, NonNullList<ItemStack> items) {
         ItemStack ingredient = items.get(INGREDIENT_SLOT);
         if (ingredient.isEmpty()) {
             return false;
@@ -212,7 +305,7 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         // Check if at least one bottle can be brewed
         for (int i = 0; i < 3; i++) {
             ItemStack bottle = items.get(i);
-            if (!bottle.isEmpty() && brewing.hasMix(bottle, ingredient)) {
+            if (!bottle.isEmpty() && mixes.hasMix(bottle, ingredient)) {
                 return true;
             }
         }
@@ -223,13 +316,13 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
     /**
      * Performs the brewing operation.
      */
-    private static void doBrew(Level level, BlockPos pos, NonNullList<ItemStack> items, PotionBrewing brewing) {
+    private static void doBrew(Level level, BlockPos pos, NonNullList<ItemStack> items, BrewMixCache mixes) {
         ItemStack ingredient = items.get(INGREDIENT_SLOT);
 
         for (int i = 0; i < 3; i++) {
             ItemStack bottle = items.get(i);
-            if (!bottle.isEmpty() && brewing.hasMix(bottle, ingredient)) {
-                items.set(i, brewing.mix(ingredient, bottle));
+            if (!bottle.isEmpty() && mixes.hasMix(bottle, ingredient)) {
+                items.set(i, mixes.mix(ingredient, bottle));
             }
         }
 
@@ -252,6 +345,36 @@ public class ColdBrewingStandBlockEntity extends BaseContainerBlockEntity {
         }
     }
 
+    @Override
+    public int[] getSlotsForFace(Direction side) {
+        if (side == null) {
+            return SLOTS_FOR_ALL;
+        }
+        return switch (side) {
+            case UP -> SLOTS_FOR_UP;
+            case DOWN -> SLOTS_FOR_BOTTLES;
+            default -> side == FUEL_FACE ? SLOTS_FOR_FUEL : SLOTS_FOR_BOTTLES;
+        };
+    }
+
+    @Override
+    public boolean canPlaceItemThroughFace(int slot, ItemStack stack, @Nullable Direction side) {
+        if (side == Direction.DOWN || !canPlaceItem(slot, stack)) {
+            return false;
+        }
+        if (slot == INGREDIENT_SLOT) {
+            return level != null && level.potionBrewing().isIngredient(stack);
+        }
+        // Bottle slots hold a single bottle
+        return slot == FUEL_SLOT || items.get(slot).isEmpty();
+    }
+
+    @Override
+    public boolean canTakeItemThroughFace(int slot, ItemStack stack, Direction side) {
+        // Only finished bottles come out, and only from below
+        return side == Direction.DOWN && slot < INGREDIENT_SLOT && !isBrewing();
+    }
+
     /**
      * Checks if an item is a valid bottle for brewing.
      */
@@ -1,9 +1,8 @@
 package com.breakinblocks.auroral.block;
 
 import com.mojang.serialization.MapCodec;
-import com.breakinblocks.auroral.registry.ModBlockEntities;
-import com.breakinblocks.auroral.registry.ModBlocks;
-import com.breakinblocks.auroral.registry.ModItems;
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
+import com.breakinblocks.auroral.util.BasinInfusions;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
@@ -12,15 +11,12 @@ import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
@@ -86,15 +82,6 @@ public class GlacialBasinBlock extends BaseEntityBlock {
         return new GlacialBasinBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
-        if (level.isClientSide()) {
-            return null;
-        }
-        return createTickerHelper(type, ModBlockEntities.GLACIAL_BASIN.get(), GlacialBasinBlockEntity::serverTick);
-    }
-
     @Override
     protected InteractionResult useItemOn(ItemStack stack, BlockState state, Level level, BlockPos pos,
                                           Player player, InteractionHand hand, BlockHitResult hit) {
@@ -107,22 +94,26 @@ public class GlacialBasinBlock extends BaseEntityBlock {
             return InteractionResult.TRY_WITH_EMPTY_HAND;
         }
 
+        // Catch up aura collected since the last interaction
+        basin.accrueAura();
+        state = level.getBlockState(pos);
         int auraLevel = state.getValue(AURA_LEVEL);
 
         // Try infusion based on item type and aura requirements
-        InfusionRecipe recipe = getInfusionRecipe(stack);
+        BasinInfusionRecipe recipe = BasinInfusions.get(level, stack);
         if (recipe != null) {
-            if (auraLevel >= recipe.auraCost) {
+            if (auraLevel >= recipe.auraCost()) {
                 // Perform infusion
                 stack.shrink(1);
 
                 // Give result to player
-                if (!player.getInventory().add(recipe.result.copy())) {
-                    player.drop(recipe.result.copy(), false);
+                ItemStack result = recipe.result().copy();
+                if (!player.getInventory().add(result)) {
+                    player.drop(result, false);
                 }
 
                 // Consume the required aura
-                int newAuraLevel = auraLevel - recipe.auraCost;
+                int newAuraLevel = auraLevel - recipe.auraCost();
                 level.setBlock(pos, state.setValue(AURA_LEVEL, newAuraLevel), 3);
                 basin.setAuraLevel(newAuraLevel);
 
@@ -133,15 +124,23 @@ public class GlacialBasinBlock extends BaseEntityBlock {
             } else {
                 // Not enough aura - show message
                 player.displayClientMessage(
-                    Component.translatable("block.auroral.glacial_basin.not_enough_aura", recipe.auraCost),
+                    Component.translatable("block.auroral.glacial_basin.not_enough_aura", recipe.auraCost()),
                     true
                 );
                 return InteractionResult.CONSUME;
             }
         }
 
-        // Empty hand - show status
+        // Empty hand - collect results infused by automation first, otherwise show status
         if (stack.isEmpty()) {
+            ItemStack infused = basin.extractOutput(Integer.MAX_VALUE, false);
+            if (!infused.isEmpty()) {
+                if (!player.getInventory().add(infused)) {
+                    player.drop(infused, false);
+                }
+                return InteractionResult.SUCCESS;
+            }
+
             player.displayClientMessage(
                 Component.translatable("block.auroral.glacial_basin.aura_level", auraLevel, 3),
                 true
@@ -152,56 +151,19 @@ public class GlacialBasinBlock extends BaseEntityBlock {
         return InteractionResult.TRY_WITH_EMPTY_HAND;
     }
 
-    /**
-     * Record for basin infusion recipes with aura cost.
-     */
-    public record InfusionRecipe(ItemStack result, int auraCost) {}
-
-    /**
-     * Gets the infusion recipe for the given item, including aura cost.
-     * Returns null if no valid infusion exists.
-     */
-    public static InfusionRecipe getInfusionRecipe(ItemStack input) {
-        if (input.isEmpty()) {
-            return null;
-        }
-
-        // Unrefined Shimmersteel -> Shimmersteel Ingot (costs FULL aura - 3 levels)
-        if (input.is(ModItems.UNREFINED_SHIMMERSTEEL.get())) {
-            return new InfusionRecipe(new ItemStack(ModItems.SHIMMERSTEEL_INGOT.get()), MAX_AURA_LEVEL);
-        }
-
-        // Woven Leather -> Shimmerweave Fabric (costs 1 aura level)
-        if (input.is(ModItems.WOVEN_LEATHER.get())) {
-            return new InfusionRecipe(new ItemStack(ModItems.SHIMMERWEAVE_FABRIC.get()), 1);
-        }
-
-        // Frozen Petals -> Aurora Shard (costs 1 aura level)
-        if (input.is(ModItems.FROZEN_PETALS.get())) {
-            return new InfusionRecipe(new ItemStack(ModItems.AURORA_SHARD.get()), 1);
-        }
-
-        // Ice -> Shimmering Ice (costs 1 aura level)
-        if (input.is(net.minecraft.world.item.Items.ICE)) {
-            return new InfusionRecipe(new ItemStack(ModBlocks.SHIMMERING_ICE.asItem()), 1);
-        }
-
-        return null;
-    }
-
     /**
      * Gets the result of infusing the given item.
      * Returns empty stack if no valid infusion exists.
      */
-    public static ItemStack getInfusionResult(ItemStack input) {
-        InfusionRecipe recipe = getInfusionRecipe(input);
-        return recipe != null ? recipe.result.copy() : ItemStack.EMPTY;
+    public static ItemStack getInfusionResult(Level level, ItemStack input) {
+        BasinInfusionRecipe recipe = BasinInfusions.get(level, input);
+        return recipe != null ? recipe.result().copy() : ItemStack.EMPTY;
     }
 
     /**
      * Checks if the given item can be infused in the basin.
      */
-    public static boolean canInfuse(ItemStack input) {
-        return getInfusionRecipe(input) != null;
+    public static boolean canInfuse(Level level, ItemStack input) {
+        return BasinInfusions.get(level, input) != null;
     }
 }
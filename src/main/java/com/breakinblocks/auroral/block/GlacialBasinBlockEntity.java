@@ -1,14 +1,23 @@
 package com.breakinblocks.auroral.block;
 
 import com.breakinblocks.auroral.config.AuroralConfig;
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
 import com.breakinblocks.auroral.registry.ModBlockEntities;
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import com.breakinblocks.auroral.registry.ModParticles;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraListeners;
+import com.breakinblocks.auroral.util.BasinInfusions;
 import com.breakinblocks.auroral.util.BiomeHelper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.Containers;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -21,54 +30,144 @@ import org.jetbrains.annotations.Nullable;
  * Handles aura collection during aurora events.
  *
  * Note: Aura level is stored in the block state (single source of truth).
- * This BlockEntity only tracks the fill tick counter for aura collection timing.
+ * The basin does not tick. It remembers the game time it last accrued aura up to and
+ * catches up from the overlap with its region's aurora when someone interacts with it or the
+ * aurora ends - applying all earned levels in one block state update. Tooltips and saving only
+ * read a projection of the pending exposure and never change the basin.
+ *
+ * Items inserted by automation are infused in batches (see {@link #infuse}); results wait in
+ * an output buffer until extracted or collected by hand.
  */
-public class GlacialBasinBlockEntity extends BlockEntity {
-    private int fillTickCounter = 0;
+public class GlacialBasinBlockEntity extends BlockEntity implements AuroraListeners.AuroraListener {
+    // Game time up to which aurora exposure has been accounted for
+    private long lastAccruedTime = Long.MIN_VALUE;
+
+    // Aurora exposure (in ticks) accumulated toward the next aura level
+    private int fillProgress = 0;
+
+    // Exposure that was pending when this basin was saved, folded into fillProgress on load
+    private long savedExposure = 0;
+
+    // Infusion results waiting to be extracted
+    private ItemStack output = ItemStack.EMPTY;
 
     public GlacialBasinBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.GLACIAL_BASIN.get(), pos, state);
     }
 
     /**
-     * Server-side tick handler.
+     * Catches up aura collection against the current aurora in the basin's region.
      */
-    public static void serverTick(Level level, BlockPos pos, BlockState state, GlacialBasinBlockEntity blockEntity) {
-        if (!(level instanceof ServerLevel serverLevel)) {
-            return;
+    public void accrueAura() {
+        if (level instanceof ServerLevel serverLevel) {
+            accrueAura(serverLevel, AuroraHelper.getAuroraState(serverLevel, worldPosition));
         }
+    }
 
-        // Only collect aura during aurora in cold biomes
-        if (!AuroraHelper.isAuroraActive(serverLevel)) {
-            return;
-        }
+    /**
+     * Catches up aura collection against the given aurora, then applies every level earned
+     * since the last catch-up in a single block state update.
+     */
+    private void accrueAura(ServerLevel level, AuroraState aurora) {
+        int previousProgress = fillProgress;
+        foldExposure(level, aurora);
 
-        if (!BiomeHelper.isColdBiome(level, pos)) {
+        int fillRate = AuroralConfig.SERVER.basinFillRate.get();
+        if (fillProgress < fillRate) {
+            if (fillProgress != previousProgress) {
+                setChanged();
+            }
             return;
         }
 
         int maxAura = AuroralConfig.SERVER.basinMaxAura.get();
-        int currentAura = state.getValue(GlacialBasinBlock.AURA_LEVEL);
+        int currentAura = getAuraLevel();
+        int newLevel = (int) Math.min((long) currentAura + fillProgress / fillRate, maxAura);
+        fillProgress = newLevel >= maxAura ? 0 : fillProgress % fillRate;
 
-        // Already full
-        if (currentAura >= maxAura) {
-            return;
+        if (newLevel != currentAura) {
+            level.setBlock(worldPosition, getBlockState().setValue(GlacialBasinBlock.AURA_LEVEL, newLevel), 3);
         }
+        setChanged();
+    }
 
-        // Increment fill counter
-        blockEntity.fillTickCounter++;
+    /**
+     * Adds the aurora exposure since the last catch-up to {@link #fillProgress}
+     * without touching the block state.
+     */
+    private void foldExposure(Level level, AuroraState aurora) {
+        fillProgress = addExposure(fillProgress, pendingExposure(level, aurora));
+        lastAccruedTime = level.getGameTime();
+    }
 
-        int fillRate = AuroralConfig.SERVER.basinFillRate.get();
-        if (blockEntity.fillTickCounter >= fillRate) {
-            blockEntity.fillTickCounter = 0;
+    /**
+     * Gets the aurora exposure (in ticks) since the last catch-up, without recording it.
+     */
+    private long pendingExposure(Level level, AuroraState aurora) {
+        // Only collect aura during aurora in cold biomes, while not already full
+        if (!aurora.active() || lastAccruedTime == Long.MIN_VALUE) {
+            return 0;
+        }
+        if (getAuraLevel() >= AuroralConfig.SERVER.basinMaxAura.get() || !BiomeHelper.isColdBiome(level, worldPosition)) {
+            return 0;
+        }
+
+        long overlap = Math.min(level.getGameTime(), aurora.endTick()) - Math.max(lastAccruedTime, aurora.startTick());
+        return Math.max(overlap, 0);
+    }
+
+    private static int addExposure(int progress, long exposure) {
+        return (int) Math.min((long) progress + exposure, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the aura level the basin would have after catching up, without applying it
+     * (e.g., for tooltips, which must not change the world).
+     */
+    public int getProjectedAuraLevel() {
+        int auraLevel = getAuraLevel();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return auraLevel;
+        }
+
+        long exposure = pendingExposure(serverLevel, AuroraHelper.getAuroraState(serverLevel, worldPosition));
+        int progress = addExposure(fillProgress, exposure);
+        int projected = (int) Math.min((long) auraLevel + progress / AuroralConfig.SERVER.basinFillRate.get(),
+            AuroralConfig.SERVER.basinMaxAura.get());
+        return Math.max(projected, auraLevel);
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            // Fold in the exposure banked by the last save; time spent unloaded doesn't count,
+            // just as it wouldn't for a ticking block
+            fillProgress = addExposure(fillProgress, savedExposure);
+            savedExposure = 0;
+            lastAccruedTime = serverLevel.getGameTime();
+            AuroraListeners.register(serverLevel, worldPosition, this);
+        }
+    }
 
-            // Add one aura level
-            int newLevel = Math.min(currentAura + 1, maxAura);
-            level.setBlock(pos, state.setValue(GlacialBasinBlock.AURA_LEVEL, newLevel), 3);
-            blockEntity.setChanged();
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (level != null) {
+            AuroraListeners.unregister(level, worldPosition, this);
         }
     }
 
+    @Override
+    public void onAuroraStart(ServerLevel level, AuroraState state) {
+        // Exposure is measured from the aurora's start tick - nothing to catch up yet
+    }
+
+    @Override
+    public void onAuroraEnd(ServerLevel level, AuroraState state) {
+        accrueAura(level, state);
+    }
+
     /**
      * Gets the current aura level from the block state (single source of truth).
      */
@@ -108,17 +207,126 @@ public class GlacialBasinBlockEntity extends BlockEntity {
         }
     }
 
+    /**
+     * Infuses up to {@code maxCount} of the input stack in one batch, as many as the stored
+     * aura and the output buffer allow. The aura is spent in a single block state update with
+     * one sound and particle burst, however many items were infused.
+     *
+     * @param input The stack to infuse from (not modified)
+     * @param maxCount The most items to infuse
+     * @param simulate If true, only computes how many items would be infused, without changing the basin
+     * @return The number of input items infused
+     */
+    public int infuse(ItemStack input, int maxCount, boolean simulate) {
+        if (!(level instanceof ServerLevel serverLevel) || maxCount <= 0) {
+            return 0;
+        }
+
+        BasinInfusionRecipe recipe = BasinInfusions.get(serverLevel, input);
+        if (recipe == null) {
+            return 0;
+        }
+
+        // Catch up aura collected since the last interaction; a simulation only projects it,
+        // leaving the basin untouched
+        int auraLevel;
+        if (simulate) {
+            auraLevel = getProjectedAuraLevel();
+        } else {
+            accrueAura();
+            auraLevel = getAuraLevel();
+        }
+
+        ItemStack result = recipe.result();
+        if (!output.isEmpty() && !ItemStack.isSameItemSameComponents(output, result)) {
+            return 0;
+        }
+        int outputSpace = result.getMaxStackSize() - output.getCount();
+        int count = Math.min(Math.min(maxCount, input.getCount()), auraLevel / recipe.auraCost());
+        count = Math.min(count, outputSpace / result.getCount());
+        if (count <= 0 || simulate) {
+            return Math.max(count, 0);
+        }
+
+        if (output.isEmpty()) {
+            output = result.copyWithCount(result.getCount() * count);
+        } else {
+            output.grow(result.getCount() * count);
+        }
+
+        int newAuraLevel = auraLevel - recipe.auraCost() * count;
+        serverLevel.setBlock(worldPosition, getBlockState().setValue(GlacialBasinBlock.AURA_LEVEL, newAuraLevel), 3);
+        setChanged();
+
+        // Effects
+        serverLevel.playSound(null, worldPosition, SoundEvents.AMETHYST_BLOCK_CHIME, SoundSource.BLOCKS, 1.0F, 1.0F);
+        serverLevel.sendParticles(ModParticles.SHIMMER.get(),
+            worldPosition.getX() + 0.5, worldPosition.getY() + 0.9, worldPosition.getZ() + 0.5,
+            8, 0.25, 0.1, 0.25, 0.02);
+        return count;
+    }
+
+    /**
+     * Gets the infusion results waiting to be extracted.
+     */
+    public ItemStack getOutput() {
+        return output;
+    }
+
+    /**
+     * Removes up to {@code amount} items from the output buffer.
+     *
+     * @param simulate If true, the buffer is left unchanged
+     * @return The extracted items
+     */
+    public ItemStack extractOutput(int amount, boolean simulate) {
+        if (output.isEmpty() || amount <= 0) {
+            return ItemStack.EMPTY;
+        }
+
+        int count = Math.min(amount, output.getCount());
+        if (simulate) {
+            return output.copyWithCount(count);
+        }
+
+        ItemStack extracted = output.split(count);
+        setChanged();
+        return extracted;
+    }
+
+    @Override
+    public void preRemoveSideEffects(BlockPos pos, BlockState state) {
+        super.preRemoveSideEffects(pos, state);
+        if (level != null && !output.isEmpty()) {
+            Containers.dropItemStack(level, pos.getX(), pos.getY(), pos.getZ(), output);
+            output = ItemStack.EMPTY;
+        }
+    }
+
     @Override
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
-        output.putInt("FillCounter", fillTickCounter);
+        // Saving must not change the basin: exposure since the last catch-up is stored next to
+        // the progress and only folded in on load, so it isn't lost if the chunk unloads mid-aurora
+        output.putInt("FillProgress", fillProgress);
+        output.putLong("LastAccruedTime", lastAccruedTime);
+        if (level instanceof ServerLevel serverLevel) {
+            output.putLong("PendingExposure",
+                pendingExposure(serverLevel, AuroraHelper.getAuroraState(serverLevel, worldPosition)));
+        }
+        if (!this.output.isEmpty()) {
+            output.store("Output", ItemStack.CODEC, this.output);
+        }
         // Note: AuraLevel is stored in block state, not BlockEntity
     }
 
     @Override
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
-        fillTickCounter = input.getIntOr("FillCounter", 0);
+        fillProgress = input.getIntOr("FillProgress", input.getIntOr("FillCounter", 0));
+        lastAccruedTime = input.getLongOr("LastAccruedTime", Long.MIN_VALUE);
+        savedExposure = input.getLongOr("PendingExposure", 0L);
+        output = input.read("Output", ItemStack.CODEC).orElse(ItemStack.EMPTY);
         // Note: AuraLevel is stored in block state, not BlockEntity
     }
 
@@ -1,11 +1,11 @@
 package com.breakinblocks.auroral.block;
 
-import com.breakinblocks.auroral.registry.ModBlockEntities;
 import com.breakinblocks.auroral.registry.ModParticles;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
@@ -16,8 +16,6 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -79,13 +77,34 @@ public class HearthwoodLogBlock extends BaseEntityBlock {
         return new HearthwoodLogBlockEntity(pos, state);
     }
 
-    @Nullable
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (level.isClientSide()) {
-            return null;
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+        // Freshly placed logs burn for the full duration - schedule the burn-out once
+        if (!level.isClientSide() && state.getValue(LIT) && !oldState.is(this)) {
+            level.scheduleTick(pos, this, HearthwoodLogBlockEntity.MAX_BURN_TIME);
+        }
+    }
+
+    /**
+     * Burn-out tick. Extinguishes the log if its burn clock has run out, otherwise
+     * reschedules for the remaining burn time (e.g., after the clock was rebased on load).
+     */
+    @Override
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
+        if (!state.getValue(LIT)) {
+            return;
         }
-        return createTickerHelper(blockEntityType, ModBlockEntities.HEARTHWOOD_LOG.get(), HearthwoodLogBlockEntity::serverTick);
+
+        if (level.getBlockEntity(pos) instanceof HearthwoodLogBlockEntity log) {
+            int remaining = log.getBurnTimeRemaining();
+            if (remaining > 0) {
+                level.scheduleTick(pos, this, remaining);
+                return;
+            }
+        }
+
+        level.setBlock(pos, state.setValue(LIT, false), Block.UPDATE_ALL);
     }
 
     @Override
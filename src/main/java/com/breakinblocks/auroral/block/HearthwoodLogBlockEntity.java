@@ -1,27 +1,23 @@
 package com.breakinblocks.auroral.block;
 
 import com.breakinblocks.auroral.registry.ModBlockEntities;
-import com.breakinblocks.auroral.registry.ModEffects;
+import com.breakinblocks.auroral.util.HearthwoodLogIndex;
+import com.breakinblocks.auroral.util.PendingBlockTicks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
-import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.effect.MobEffectInstance;
-import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
-import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-
 /**
  * Block entity for the Hearthwood Log.
- * Tracks burn time and applies effects to nearby players.
+ * Tracks burn time as an ignition game time plus a burn duration; the remaining burn is
+ * derived from the current game time on demand. The log does not tick - burning out is a
+ * single scheduled block tick at the computed burn-out time (see {@link HearthwoodLogBlock#tick}).
  */
 public class HearthwoodLogBlockEntity extends BlockEntity {
 
@@ -35,98 +31,82 @@ public class HearthwoodLogBlockEntity extends BlockEntity {
      */
     public static final double EFFECT_RADIUS = 16.0;
 
-    /**
-     * How often to apply effects (every 2 seconds)
-     */
-    private static final int EFFECT_INTERVAL = 40;
-
-    /**
-     * Duration of immunity effect (3 seconds, refreshed every 2)
-     */
-    private static final int EFFECT_DURATION = 60;
+    private int burnDuration = MAX_BURN_TIME;
+    private long ignitionTime;
 
-    private int burnTimeRemaining = MAX_BURN_TIME;
-    private int effectTimer = 0;
+    // Remaining burn read from disk, rebased onto the level's game time in onLoad
+    private int loadedBurnTimeRemaining = MAX_BURN_TIME;
 
     public HearthwoodLogBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.HEARTHWOOD_LOG.get(), pos, state);
     }
 
-    public static void serverTick(Level level, BlockPos pos, BlockState state, HearthwoodLogBlockEntity blockEntity) {
-        if (!(level instanceof ServerLevel serverLevel)) {
-            return;
-        }
-
-        // Only tick if lit
-        if (!state.getValue(HearthwoodLogBlock.LIT)) {
-            return;
-        }
-
-        // Decrease burn time
-        blockEntity.burnTimeRemaining--;
-
-        // Check if burned out
-        if (blockEntity.burnTimeRemaining <= 0) {
-            // Extinguish the log
-            level.setBlock(pos, state.setValue(HearthwoodLogBlock.LIT, false), 3);
-            blockEntity.setChanged();
-            return;
-        }
-
-        // Apply effects periodically
-        blockEntity.effectTimer++;
-        if (blockEntity.effectTimer >= EFFECT_INTERVAL) {
-            blockEntity.effectTimer = 0;
-            blockEntity.applyEffectsToNearbyPlayers(serverLevel, pos);
+    public int getBurnTimeRemaining() {
+        if (level == null) {
+            return loadedBurnTimeRemaining;
         }
+        long burned = level.getGameTime() - ignitionTime;
+        return (int) Math.max(0, burnDuration - burned);
+    }
 
-        // Mark changed occasionally for saving
-        if (blockEntity.burnTimeRemaining % 1200 == 0) { // Every minute
-            blockEntity.setChanged();
-        }
+    public float getBurnProgress() {
+        return (float) getBurnTimeRemaining() / burnDuration;
     }
 
-    private void applyEffectsToNearbyPlayers(ServerLevel level, BlockPos pos) {
-        AABB effectBox = new AABB(pos).inflate(EFFECT_RADIUS);
-        List<Player> nearbyPlayers = level.getEntitiesOfClass(Player.class, effectBox);
-
-        for (Player player : nearbyPlayers) {
-            // Grant Frostbite immunity (by giving resistance to our Frostbite effect)
-            // We'll use Fire Resistance as a proxy since it thematically makes sense
-            // for a warm fire, and also add our custom immunity via the event handler
-            player.addEffect(new MobEffectInstance(
-                ModEffects.FROSTBITE_IMMUNITY,
-                EFFECT_DURATION,
-                0,
-                true,  // ambient
-                false, // visible
-                true   // show icon
-            ));
-        }
+    public boolean isLit() {
+        return getBurnTimeRemaining() > 0 && getBlockState().getValue(HearthwoodLogBlock.LIT);
     }
 
-    public int getBurnTimeRemaining() {
-        return burnTimeRemaining;
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null) {
+            // Rebase the saved remaining burn onto the current game time - like scheduled
+            // ticks, the burn clock doesn't run while the chunk is unloaded
+            ignitionTime = level.getGameTime() - (burnDuration - loadedBurnTimeRemaining);
+
+            boolean lit = getBlockState().getValue(HearthwoodLogBlock.LIT);
+            HearthwoodLogIndex.update(level, worldPosition, lit);
+            if (lit) {
+                // Make sure the burn-out tick exists (e.g., logs saved before it was scheduled)
+                PendingBlockTicks.ensureScheduled(level, worldPosition, getBlockState().getBlock());
+            }
+        }
     }
 
-    public float getBurnProgress() {
-        return (float) burnTimeRemaining / MAX_BURN_TIME;
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        // Called both when the block is broken and when its chunk unloads
+        if (level != null) {
+            HearthwoodLogIndex.remove(level, worldPosition);
+        }
     }
 
-    public boolean isLit() {
-        return burnTimeRemaining > 0 && getBlockState().getValue(HearthwoodLogBlock.LIT);
+    @Override
+    public void setBlockState(BlockState state) {
+        super.setBlockState(state);
+        // Keep the lit-log index in sync when LIT is toggled in place
+        if (level != null && !isRemoved()) {
+            HearthwoodLogIndex.update(level, worldPosition, state.getValue(HearthwoodLogBlock.LIT));
+        }
     }
 
     @Override
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
-        output.putInt("BurnTime", burnTimeRemaining);
+        output.putInt("BurnTime", getBurnTimeRemaining());
+        output.putInt("BurnDuration", burnDuration);
     }
 
     @Override
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
-        burnTimeRemaining = input.getIntOr("BurnTime", MAX_BURN_TIME);
+        burnDuration = input.getIntOr("BurnDuration", MAX_BURN_TIME);
+        loadedBurnTimeRemaining = input.getIntOr("BurnTime", burnDuration);
+        if (level != null) {
+            ignitionTime = level.getGameTime() - (burnDuration - loadedBurnTimeRemaining);
+        }
     }
 
     @Nullable
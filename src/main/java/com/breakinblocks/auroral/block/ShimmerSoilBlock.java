@@ -1,10 +1,12 @@
 package com.breakinblocks.auroral.block;
 
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.HydrationIndex;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
@@ -12,6 +14,8 @@ import net.minecraft.world.level.block.BonemealableBlock;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.FarmBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.common.CommonHooks;
+import net.neoforged.neoforge.common.util.TriState;
 
 /**
  * Shimmer Soil - Aurora-infused farmland that accelerates crop growth.
@@ -24,15 +28,31 @@ import net.minecraft.world.level.block.state.BlockState;
  */
 public class ShimmerSoilBlock extends FarmBlock {
 
+    // Whether a crop class overrides CropBlock.randomTick, looked up once per class
+    private static final ClassValue<Boolean> OVERRIDES_RANDOM_TICK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != CropBlock.class && c != null; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("randomTick", BlockState.class, ServerLevel.class, BlockPos.class, RandomSource.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Not declared here - check the superclass
+                }
+            }
+            return false;
+        }
+    };
+
     public ShimmerSoilBlock(Properties properties) {
         super(properties);
     }
 
     @Override
     public void randomTick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
-        // Handle moisture ourselves - check for water OR shimmering ice
+        // Handle moisture ourselves - check for water OR shimmering ice (indexed, see HydrationIndex)
         int currentMoisture = state.getValue(MOISTURE);
-        if (isNearWaterOrShimmeringIce(level, pos)) {
+        if (HydrationIndex.isHydrated(level, pos)) {
             if (currentMoisture < 7) {
                 level.setBlock(pos, state.setValue(MOISTURE, 7), 2);
             }
@@ -48,23 +68,110 @@ public class ShimmerSoilBlock extends FarmBlock {
         BlockPos cropPos = pos.above();
         BlockState cropState = level.getBlockState(cropPos);
 
-        if (cropState.getBlock() instanceof CropBlock || cropState.getBlock() instanceof BonemealableBlock) {
+        if (cropState.getBlock() instanceof CropBlock cropBlock) {
             // Determine growth multiplier
             int bonusTicks = getGrowthBonusTicks(level, pos);
+            if (bonusTicks > 0) {
+                // Crops that gate or change growth in their own randomTick (e.g., beetroot,
+                // torchflower) get one real tick per bonus; all others are batched
+                if (!OVERRIDES_RANDOM_TICK.get(cropBlock.getClass())) {
+                    applyBonusGrowth(level, cropPos, cropState, cropBlock, bonusTicks, random);
+                } else {
+                    tickBonusGrowth(level, cropPos, cropState, bonusTicks, random);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives a crop its bonus growth as extra random ticks, one at a time.
+     */
+    private void tickBonusGrowth(ServerLevel level, BlockPos cropPos, BlockState cropState,
+                                 int bonusTicks, RandomSource random) {
+        for (int i = 0; i < bonusTicks; i++) {
+            cropState.randomTick(level, cropPos, random);
+            cropState = level.getBlockState(cropPos);
+            if (!(cropState.getBlock() instanceof CropBlock)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Applies the combined growth of several bonus random ticks to a crop that uses
+     * {@link CropBlock}'s own randomTick, in one block update.
+     *
+     * Each bonus tick rolls the crop's vanilla growth chance; the stages won are summed
+     * (capped at max age) and the final age is set once, instead of one setBlock per stage.
+     */
+    private void applyBonusGrowth(ServerLevel level, BlockPos cropPos, BlockState cropState, CropBlock cropBlock,
+                                  int bonusTicks, RandomSource random) {
+        // Same preconditions as CropBlock.randomTick
+        if (!level.isAreaLoaded(cropPos, 1) || level.getRawBrightness(cropPos, 0) < 9) {
+            return;
+        }
+
+        int age = cropBlock.getAge(cropState);
+        int stagesLeft = cropBlock.getMaxAge() - age;
+        if (stagesLeft <= 0) {
+            return;
+        }
 
-            // Apply bonus growth ticks
-            for (int i = 0; i < bonusTicks; i++) {
-                if (cropState.getBlock() instanceof CropBlock cropBlock) {
-                    // Trigger the crop's random tick for growth
-                    cropState.randomTick(level, cropPos, random);
-                    // Re-fetch state in case it changed
-                    cropState = level.getBlockState(cropPos);
-                    if (!(cropState.getBlock() instanceof CropBlock)) {
-                        break; // Crop was harvested or changed
-                    }
+        // Growth speed only depends on the surroundings, which don't change between bonus ticks
+        int chance = (int) (25.0F / getGrowthSpeed(cropState, level, cropPos)) + 1;
+        int stages = 0;
+        for (int i = 0; i < bonusTicks && stages < stagesLeft; i++) {
+            if (random.nextInt(chance) == 0) {
+                stages++;
+            }
+        }
+
+        // Let other mods veto or force growth once for the whole batch
+        if (!CommonHooks.canCropGrow(level, cropPos, cropState, stages > 0)) {
+            return;
+        }
+        stages = Math.max(stages, 1);
+
+        level.setBlock(cropPos, cropBlock.getStateForAge(age + stages), 2);
+        CommonHooks.fireCropGrowPost(level, cropPos, cropState);
+    }
+
+    /**
+     * Mirrors NeoForge's {@code CropBlock.getGrowthSpeed}: soil that sustains the crop underneath
+     * and around it speeds it up (more so when fertile), while rows of the same crop slow it down.
+     */
+    private static float getGrowthSpeed(BlockState cropState, BlockGetter level, BlockPos cropPos) {
+        Block crop = cropState.getBlock();
+        BlockPos below = cropPos.below();
+        float speed = 1.0F;
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                BlockPos soilPos = below.offset(dx, 0, dz);
+                BlockState soil = level.getBlockState(soilPos);
+                float soilSpeed = 0.0F;
+                TriState soilDecision = soil.canSustainPlant(level, soilPos, Direction.UP, cropState);
+                if (soilDecision.isDefault() ? soil.getBlock() instanceof FarmBlock : soilDecision.isTrue()) {
+                    soilSpeed = soil.isFertile(level, soilPos) ? 3.0F : 1.0F;
+                }
+                if (dx != 0 || dz != 0) {
+                    soilSpeed /= 4.0F;
                 }
+                speed += soilSpeed;
             }
         }
+
+        boolean eastWest = level.getBlockState(cropPos.west()).is(crop) || level.getBlockState(cropPos.east()).is(crop);
+        boolean northSouth = level.getBlockState(cropPos.north()).is(crop) || level.getBlockState(cropPos.south()).is(crop);
+        if (eastWest && northSouth) {
+            speed /= 2.0F;
+        } else if (level.getBlockState(cropPos.north().west()).is(crop)
+            || level.getBlockState(cropPos.north().east()).is(crop)
+            || level.getBlockState(cropPos.south().east()).is(crop)
+            || level.getBlockState(cropPos.south().west()).is(crop)) {
+            speed /= 2.0F;
+        }
+        return speed;
     }
 
     /**
@@ -74,6 +181,9 @@ public class ShimmerSoilBlock extends FarmBlock {
      */
     private int getGrowthBonusTicks(Level level, BlockPos pos) {
         // During aurora: 5x growth (4 bonus ticks)
+        // Checked on each random tick rather than tracked via AuroraListeners: soil has no block
+        // entity to hold a listener, and the check is a snapshot lookup only made when the block
+        // is randomly ticked, which is cheaper than keeping a listener per soil block.
         if (AuroraHelper.isExperiencingAurora(level, pos)) {
             return 4;
         }
@@ -92,23 +202,17 @@ public class ShimmerSoilBlock extends FarmBlock {
         return dayTime >= 13000 && dayTime < 23000;
     }
 
-    private boolean isNearWaterOrShimmeringIce(LevelReader level, BlockPos pos) {
-        for (BlockPos checkPos : BlockPos.betweenClosed(pos.offset(-4, 0, -4), pos.offset(4, 1, 4))) {
-            if (level.getFluidState(checkPos).is(FluidTags.WATER)) {
-                return true;
-            }
-            if (level.getBlockState(checkPos).getBlock() instanceof ShimmeringIceBlock) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean hasCrops(LevelReader level, BlockPos pos) {
         BlockState above = level.getBlockState(pos.above());
         return above.getBlock() instanceof CropBlock || above.getBlock() instanceof BonemealableBlock;
     }
 
+    @Override
+    protected void affectNeighborsAfterRemoval(BlockState state, ServerLevel level, BlockPos pos, boolean movedByPiston) {
+        super.affectNeighborsAfterRemoval(state, level, pos, movedByPiston);
+        HydrationIndex.forgetSoil(level, pos);
+    }
+
     @Override
     public boolean canSurvive(BlockState state, LevelReader level, BlockPos pos) {
         // Shimmer soil can survive in more conditions than regular farmland
@@ -120,7 +224,7 @@ public class ShimmerSoilBlock extends FarmBlock {
      * Shimmer soil emits a faint glow.
      */
     @Override
-    public int getLightEmission(BlockState state, net.minecraft.world.level.BlockGetter level, BlockPos pos) {
+    public int getLightEmission(BlockState state, BlockGetter level, BlockPos pos) {
         return 2;
     }
 }
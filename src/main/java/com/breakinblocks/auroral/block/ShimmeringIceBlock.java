@@ -1,5 +1,6 @@
 package com.breakinblocks.auroral.block;
 
+import com.breakinblocks.auroral.util.HydrationIndex;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -57,6 +58,10 @@ public class ShimmeringIceBlock extends HalfTransparentBlock {
      * Check if a position is next to Shimmering Ice or Glowing Shimmer Ice (for farmland hydration).
      */
     public static boolean isNearShimmeringIce(LevelReader level, BlockPos farmlandPos) {
+        if (level instanceof ServerLevel serverLevel) {
+            return HydrationIndex.isNearShimmeringIce(serverLevel, farmlandPos);
+        }
+
         for (BlockPos checkPos : BlockPos.betweenClosed(
             farmlandPos.offset(-4, 0, -4),
             farmlandPos.offset(4, 1, 4))) {
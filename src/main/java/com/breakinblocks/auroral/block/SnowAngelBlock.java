@@ -1,13 +1,14 @@
 package com.breakinblocks.auroral.block;
 
-import com.breakinblocks.auroral.registry.ModBlockEntities;
 import com.breakinblocks.auroral.registry.ModItems;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -22,8 +23,6 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.HorizontalDirectionalBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
@@ -121,13 +120,45 @@ public class SnowAngelBlock extends BaseEntityBlock {
         return new SnowAngelBlockEntity(pos, state);
     }
 
-    @Nullable
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (level.isClientSide()) {
-            return null;
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+        // Schedule the fade once, when the snow angel is created
+        if (!level.isClientSide() && !state.getValue(PERMANENT) && !oldState.is(this)) {
+            level.scheduleTick(pos, this, SnowAngelBlockEntity.FADE_TIME);
+        }
+    }
+
+    /**
+     * Fade tick. Removes the snow angel once its age reaches {@link SnowAngelBlockEntity#FADE_TIME},
+     * reschedules if time is left (e.g., after its age was rebased on load), and does nothing
+     * once it has been made permanent.
+     */
+    @Override
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
+        if (state.getValue(PERMANENT)) {
+            return;
         }
-        return createTickerHelper(blockEntityType, ModBlockEntities.SNOW_ANGEL.get(), SnowAngelBlockEntity::serverTick);
+
+        if (level.getBlockEntity(pos) instanceof SnowAngelBlockEntity snowAngel) {
+            if (snowAngel.isPermanent()) {
+                return;
+            }
+
+            int remaining = snowAngel.getTicksUntilFade();
+            if (remaining > 0) {
+                level.scheduleTick(pos, this, remaining);
+                return;
+            }
+        }
+
+        // Spawn particles before removing
+        level.sendParticles(ParticleTypes.SNOWFLAKE,
+            pos.getX() + 0.5, pos.getY() + 0.25, pos.getZ() + 0.5,
+            10, 0.5, 0.1, 0.5, 0.02);
+
+        // Remove the block without drops
+        level.removeBlock(pos, false);
     }
 
     @Override
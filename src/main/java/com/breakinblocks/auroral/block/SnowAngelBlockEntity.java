@@ -1,13 +1,11 @@
 package com.breakinblocks.auroral.block;
 
 import com.breakinblocks.auroral.registry.ModBlockEntities;
+import com.breakinblocks.auroral.util.PendingBlockTicks;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
-import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.ValueInput;
@@ -15,8 +13,10 @@ import net.minecraft.world.level.storage.ValueOutput;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Block entity for Snow Angel that tracks age and permanence.
+ * Block entity for Snow Angel that tracks creation time and permanence.
  * Snow angels fade away after 5 minutes unless preserved with a Frozen Petal.
+ * Age is derived from the creation game time; fading is a single scheduled block tick
+ * (see {@link SnowAngelBlock#tick}), so snow angels never tick.
  */
 public class SnowAngelBlockEntity extends BlockEntity {
 
@@ -25,39 +25,19 @@ public class SnowAngelBlockEntity extends BlockEntity {
      */
     public static final int FADE_TIME = 6000;
 
-    private int age = 0;
+    private long creationTime;
     private boolean permanent = false;
 
+    // Age read from disk, rebased onto the level's game time in onLoad
+    private int loadedAge = 0;
+
     public SnowAngelBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.SNOW_ANGEL.get(), pos, state);
     }
 
-    public static void serverTick(Level level, BlockPos pos, BlockState state, SnowAngelBlockEntity blockEntity) {
-        if (!(level instanceof ServerLevel serverLevel)) {
-            return;
-        }
-
-        // Don't age if permanent
-        if (blockEntity.permanent) {
-            return;
-        }
-
-        blockEntity.age++;
-
-        // Fade away when time is up
-        if (blockEntity.age >= FADE_TIME) {
-            // Spawn particles before removing
-            serverLevel.sendParticles(ParticleTypes.SNOWFLAKE,
-                pos.getX() + 0.5, pos.getY() + 0.25, pos.getZ() + 0.5,
-                10, 0.5, 0.1, 0.5, 0.02);
-
-            // Remove the block without drops
-            level.removeBlock(pos, false);
-        }
-    }
-
     /**
      * Makes this snow angel permanent (won't fade).
+     * The pending fade tick is left in place and ignored once it fires.
      */
     public void makePermanent() {
         this.permanent = true;
@@ -75,7 +55,17 @@ public class SnowAngelBlockEntity extends BlockEntity {
      * Gets the current age in ticks.
      */
     public int getAge() {
-        return age;
+        if (level == null) {
+            return loadedAge;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, level.getGameTime() - creationTime));
+    }
+
+    /**
+     * Gets the ticks left until the snow angel fades (0 once it is due).
+     */
+    public int getTicksUntilFade() {
+        return Math.max(0, FADE_TIME - getAge());
     }
 
     /**
@@ -83,21 +73,39 @@ public class SnowAngelBlockEntity extends BlockEntity {
      */
     public float getFadeProgress() {
         if (permanent) return 0.0f;
-        return (float) age / FADE_TIME;
+        return Math.min(1.0f, (float) getAge() / FADE_TIME);
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null) {
+            // Rebase the saved age onto the current game time - like scheduled ticks,
+            // snow angels don't age while their chunk is unloaded
+            creationTime = level.getGameTime() - loadedAge;
+
+            if (!permanent) {
+                // Make sure the fade tick exists (e.g., snow angels saved before it was scheduled)
+                PendingBlockTicks.ensureScheduled(level, worldPosition, getBlockState().getBlock());
+            }
+        }
     }
 
     @Override
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
-        output.putInt("Age", age);
+        output.putInt("Age", getAge());
         output.putBoolean("Permanent", permanent);
     }
 
     @Override
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
-        age = input.getIntOr("Age", 0);
+        loadedAge = input.getIntOr("Age", 0);
         permanent = input.getBooleanOr("Permanent", false);
+        if (level != null) {
+            creationTime = level.getGameTime() - loadedAge;
+        }
     }
 
     @Nullable
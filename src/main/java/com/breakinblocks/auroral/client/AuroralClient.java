@@ -15,12 +15,16 @@ import com.breakinblocks.auroral.client.renderer.ThrownShimmerSpearRenderer;
 import com.breakinblocks.auroral.registry.ModEntities;
 import com.breakinblocks.auroral.registry.ModMenuTypes;
 import com.breakinblocks.auroral.registry.ModParticles;
+import com.breakinblocks.auroral.registry.ModRecipes;
+import com.breakinblocks.auroral.util.BasinInfusions;
 import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.RecipesReceivedEvent;
 import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
 import net.neoforged.neoforge.client.event.RegisterParticleProvidersEvent;
 
@@ -81,6 +85,16 @@ public class AuroralClient {
         event.register(ModMenuTypes.COLD_BREWING_STAND.get(), ColdBrewingStandScreen::new);
     }
 
+    /**
+     * Indexes the Basin Infusion recipes synced from the server (used by recipe viewers).
+     */
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onRecipesReceived(RecipesReceivedEvent event) {
+        if (event.getRecipeTypes().contains(ModRecipes.BASIN_INFUSION.get())) {
+            BasinInfusions.rebuildClient(event.getRecipeMap().byType(ModRecipes.BASIN_INFUSION.get()));
+        }
+    }
+
     /**
      * Reset client state when disconnecting from server.
      * Releases GPU resources and clears cached state.
@@ -88,6 +102,7 @@ public class AuroralClient {
     @SubscribeEvent
     public static void onClientDisconnect(ClientPlayerNetworkEvent.LoggingOut event) {
         ClientAuroraState.reset();
+        BasinInfusions.clearClient();
         SnowFootprintManager.clear();
         AuroraMusicHandler.forceStop();
 
@@ -1,11 +1,11 @@
 package com.breakinblocks.auroral.client;
 
 /**
- * Client-side storage for aurora state.
- * Updated via network packets from the server.
+ * Client-side storage for aurora state of the region the player is in.
+ * Updated via network packets from the server; safe to read from any thread.
  */
 public class ClientAuroraState {
-    private static boolean auroraActive = false;
+    private static volatile boolean auroraActive = false;
 
     /**
      * Checks if aurora is currently active on the client.
@@ -2,6 +2,7 @@ package com.breakinblocks.auroral.client.footprint;
 
 import com.breakinblocks.auroral.Auroral;
 import com.breakinblocks.auroral.config.AuroralConfig;
+import com.breakinblocks.auroral.util.SnowBlockHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.core.BlockPos;
@@ -127,24 +128,14 @@ public class SnowFootprintManager {
     private static boolean isSnowySurface(Level level, BlockPos pos) {
         BlockState state = level.getBlockState(pos);
 
-        // Snow layer
-        if (state.is(Blocks.SNOW)) {
-            return true;
-        }
-
-        // Snow block
-        if (state.is(Blocks.SNOW_BLOCK)) {
-            return true;
-        }
-
-        // Powder snow
-        if (state.is(Blocks.POWDER_SNOW)) {
+        // Snow layer, snow block or powder snow
+        if (SnowBlockHelper.isSnow(state)) {
             return true;
         }
 
         // Check the block below for grass with snow on top
         BlockState above = level.getBlockState(pos.above());
-        if (above.is(Blocks.SNOW)) {
+        if (SnowBlockHelper.isSnowLayer(above)) {
             return true;
         }
 
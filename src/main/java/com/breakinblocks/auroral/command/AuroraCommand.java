@@ -1,14 +1,19 @@
 package com.breakinblocks.auroral.command;
 
 import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.config.AuroralConfig;
 import com.breakinblocks.auroral.net.AuroralNetworking;
 import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import com.breakinblocks.auroral.util.AuroraForecast;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraRegions;
+import com.breakinblocks.auroral.util.AuroraSnapshot;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.permissions.Permissions;
@@ -25,6 +30,8 @@ public class AuroraCommand {
 
     private static final int DEFAULT_DURATION = 6000; // 5 minutes in ticks
 
+    private static final int DEFAULT_FORECAST_NIGHTS = 5;
+
     @SubscribeEvent
     public static void onRegisterCommands(RegisterCommandsEvent event) {
         CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
@@ -43,6 +50,12 @@ public class AuroraCommand {
             .then(Commands.literal("status")
                 .executes(AuroraCommand::getStatus)
             )
+            .then(Commands.literal("forecast")
+                .executes(ctx -> getForecast(ctx, DEFAULT_FORECAST_NIGHTS))
+                .then(Commands.argument("nights", IntegerArgumentType.integer(1, 30))
+                    .executes(ctx -> getForecast(ctx, IntegerArgumentType.getInteger(ctx, "nights")))
+                )
+            )
         );
 
         Auroral.LOGGER.debug("Registered /aurora command");
@@ -55,11 +68,15 @@ public class AuroraCommand {
         CommandSourceStack source = ctx.getSource();
         ServerLevel level = source.getLevel();
 
-        // Start the aurora
-        AuroraHelper.startAurora(level, duration);
+        // Start the aurora in the region the command was run from
+        long cell = AuroraRegions.cellKey(BlockPos.containing(source.getPosition()));
+        if (!AuroraHelper.startAurora(level, cell, duration)) {
+            source.sendFailure(Component.literal("Aurora start was canceled"));
+            return 0;
+        }
 
-        // Sync to all clients
-        AuroralNetworking.syncAuroraToAll(level, true);
+        // Sync to clients in that region
+        AuroralNetworking.syncAuroraToRegion(level, cell, true);
 
         // Calculate duration in seconds for display
         int seconds = duration / 20;
@@ -73,24 +90,23 @@ public class AuroraCommand {
             timeStr = String.format("%d sec", seconds);
         }
 
-        source.sendSuccess(() -> Component.literal("Aurora started for " + timeStr + " (" + duration + " ticks)"), true);
+        source.sendSuccess(() -> Component.literal("Aurora started in region " + AuroraRegions.formatCell(cell) + " for " + timeStr + " (" + duration + " ticks)"), true);
         return 1;
     }
 
     /**
-     * Stops the current aurora event.
+     * Stops the aurora event in the region the command was run from.
      */
     private static int stopAurora(CommandContext<CommandSourceStack> ctx) {
         CommandSourceStack source = ctx.getSource();
         ServerLevel level = source.getLevel();
 
-        boolean wasActive = AuroraHelper.isAuroraActive(level);
-
         // End the aurora
-        AuroraHelper.endAurora(level);
+        long cell = AuroraRegions.cellKey(BlockPos.containing(source.getPosition()));
+        boolean wasActive = AuroraHelper.endAurora(level, cell);
 
-        // Sync to all clients
-        AuroralNetworking.syncAuroraToAll(level, false);
+        // Sync to clients in that region
+        AuroralNetworking.syncAuroraToRegion(level, cell, false);
 
         if (wasActive) {
             source.sendSuccess(() -> Component.literal("Aurora stopped"), true);
@@ -101,19 +117,23 @@ public class AuroraCommand {
     }
 
     /**
-     * Shows the current aurora status.
+     * Shows the aurora status of the region the command was run from.
      */
     private static int getStatus(CommandContext<CommandSourceStack> ctx) {
         CommandSourceStack source = ctx.getSource();
         ServerLevel level = source.getLevel();
 
-        AuroraState state = AuroraHelper.getAuroraState(level);
+        AuroraSnapshot snapshot = AuroraHelper.getAuroraSnapshot(level);
+        long cell = AuroraRegions.cellKey(BlockPos.containing(source.getPosition()));
+        AuroraState state = snapshot.get(cell);
+        int activeRegions = snapshot.activeCells().size();
         long gameTime = level.getGameTime();
         long dayTime = level.getDayTime() % 24000;
 
         boolean isNight = AuroraHelper.isNightTime(level);
 
         source.sendSuccess(() -> Component.literal("=== Aurora Status ==="), false);
+        source.sendSuccess(() -> Component.literal("Region: " + AuroraRegions.formatCell(cell)), false);
         source.sendSuccess(() -> Component.literal("Active: " + (state.active() ? "Yes" : "No")), false);
 
         if (state.active()) {
@@ -124,6 +144,42 @@ public class AuroraCommand {
 
         source.sendSuccess(() -> Component.literal("Day time: " + dayTime + "/24000 (" + (isNight ? "Night" : "Day") + ")"), false);
         source.sendSuccess(() -> Component.literal("Game time: " + gameTime), false);
+        source.sendSuccess(() -> Component.literal("Active regions: " + activeRegions), false);
+
+        return 1;
+    }
+
+    /**
+     * Shows the aurora forecast for the coming nights in the region the command was run from.
+     */
+    private static int getForecast(CommandContext<CommandSourceStack> ctx, int nights) {
+        CommandSourceStack source = ctx.getSource();
+        ServerLevel level = source.getLevel();
+
+        BlockPos pos = BlockPos.containing(source.getPosition());
+        long firstNight = AuroraHelper.getNextNightDay(level);
+        double chance = AuroralConfig.SERVER.auroraChance.get();
+
+        source.sendSuccess(() -> Component.literal("=== Aurora Forecast (region " + AuroraRegions.formatCell(AuroraRegions.cellKey(pos)) + ") ==="), false);
+
+        for (long day = firstNight; day < firstNight + nights; day++) {
+            AuroraForecast forecast = AuroraHelper.getForecast(level, pos, day);
+            String line;
+            if (forecast.occurs(chance)) {
+                int startSec = forecast.startOffset() / 20;
+                int durationSec = forecast.duration() / 20;
+                line = "Night " + day + ": Aurora - starts " + startSec + " sec after dusk, lasts up to " + durationSec + " sec";
+            } else {
+                line = "Night " + day + ": Clear (roll " + String.format("%.2f", forecast.roll()) + ")";
+            }
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+
+        AuroraState scheduled = AuroraHelper.getScheduledAurora(level, pos);
+        if (scheduled.active()) {
+            long startsIn = scheduled.startTick() - level.getGameTime();
+            source.sendSuccess(() -> Component.literal("Scheduled tonight: starts in " + (startsIn / 20) + " sec"), false);
+        }
 
         return 1;
     }
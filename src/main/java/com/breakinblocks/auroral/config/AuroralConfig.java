@@ -70,6 +70,7 @@ public class AuroralConfig {
         public final ModConfigSpec.IntValue auroraMinDuration;
         public final ModConfigSpec.IntValue auroraMaxDuration;
         public final ModConfigSpec.IntValue auroraRepairRate;
+        public final ModConfigSpec.IntValue bloomCleanupBudget;
 
         // Combat settings
         public final ModConfigSpec.DoubleValue executeThreshold;
@@ -117,6 +118,10 @@ public class AuroralConfig {
                 .comment("Durability repaired per second on Shimmersteel/Shimmerweave gear during aurora")
                 .defineInRange("aurora_repair_rate", 1, 0, 10);
 
+            bloomCleanupBudget = builder
+                .comment("Maximum Aurora Blooms removed per tick after an aurora ends (spreads cleanup over several ticks)")
+                .defineInRange("bloom_cleanup_budget", 64, 1, 4096);
+
             builder.pop().push("combat");
 
             executeThreshold = builder
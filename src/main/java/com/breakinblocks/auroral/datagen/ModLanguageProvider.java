@@ -81,6 +81,7 @@ public class ModLanguageProvider extends LanguageProvider {
         // JEI integration
         add("auroral.jei.category.basin_infusion", "Basin Infusion");
         add("auroral.jei.basin_infusion.tooltip", "Requires Liquid Aura (collected during Aurora)");
+        add("auroral.jei.basin_infusion.aura_cost", "Costs %d aura levels");
 
         // Config
         add("auroral.config.aurora_chance", "Aurora Chance");
@@ -2,7 +2,10 @@ package com.breakinblocks.auroral.entity;
 
 import com.breakinblocks.auroral.Auroral;
 import com.breakinblocks.auroral.config.AuroralConfig;
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraListeners;
+import com.breakinblocks.auroral.util.AuroraRegions;
 import com.breakinblocks.auroral.registry.ModItems;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -46,7 +49,7 @@ import java.util.UUID;
  * Auroral Nautilus - A mystical flying nautilus creature that appears during Aurora events.
  * Can be tamed with Aurora Shards and ridden through the sky when saddled.
  */
-public class AuroralNautilusEntity extends Animal implements PlayerRideable, PlayerRideableJumping {
+public class AuroralNautilusEntity extends Animal implements PlayerRideable, PlayerRideableJumping, AuroraListeners.AuroraListener {
 
     public static final float FLAP_DEGREES_PER_TICK = 5.0F;
     public static final int TICKS_PER_FLAP = Mth.ceil(30.0F);
@@ -68,6 +71,12 @@ public class AuroralNautilusEntity extends Animal implements PlayerRideable, Pla
     @Nullable BlockPos anchorPoint;
 
     private int despawnTimer = 0;
+
+    private static final long NO_AURORA_CELL = Long.MIN_VALUE;
+
+    // Region cell this nautilus listens to for aurora transitions, and whether that region has an aurora
+    private long auroraCell = NO_AURORA_CELL;
+    private boolean auroraActive;
     private static final int MAX_CHARGE_TIME = 40;
 
     private boolean wasJumping = false;
@@ -469,6 +478,42 @@ public class AuroralNautilusEntity extends Animal implements PlayerRideable, Pla
         this.travelFlying(travelVector, 0.15F);
     }
 
+    /**
+     * Listens for aurora transitions in the region the nautilus is in. Called when it joins
+     * a level and whenever it crosses into another chunk; re-registers only on region changes.
+     */
+    public void trackAurora(ServerLevel level) {
+        long cell = AuroraRegions.cellKey(this.blockPosition());
+        if (cell == auroraCell) {
+            return;
+        }
+
+        untrackAurora(level);
+        auroraCell = cell;
+        AuroraListeners.register(level, cell, this);
+        auroraActive = AuroraHelper.getAuroraSnapshot(level).get(cell).active();
+    }
+
+    /**
+     * Stops listening for aurora transitions (e.g., when leaving the level).
+     */
+    public void untrackAurora(ServerLevel level) {
+        if (auroraCell != NO_AURORA_CELL) {
+            AuroraListeners.unregister(level, auroraCell, this);
+            auroraCell = NO_AURORA_CELL;
+        }
+    }
+
+    @Override
+    public void onAuroraStart(ServerLevel level, AuroraState state) {
+        auroraActive = true;
+    }
+
+    @Override
+    public void onAuroraEnd(ServerLevel level, AuroraState state) {
+        auroraActive = false;
+    }
+
     @Override
     public void tick() {
         super.tick();
@@ -481,8 +526,7 @@ public class AuroralNautilusEntity extends Animal implements PlayerRideable, Pla
         }
 
         if (!this.level().isClientSide() && this.level() instanceof ServerLevel serverLevel && !isTamed()) {
-            boolean auroraActive = AuroraHelper.isAuroraActive(serverLevel);
-
+            // Kept current by aurora transitions in its region (see trackAurora)
             if (!auroraActive) {
                 despawnTimer++;
                 if (despawnTimer >= AuroralConfig.SERVER.nautilusDespawnDelay.get()) {
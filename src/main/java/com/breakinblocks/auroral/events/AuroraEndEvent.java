@@ -0,0 +1,14 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import net.minecraft.server.level.ServerLevel;
+
+/**
+ * Posted after an aurora ended in a region, whether it expired, reached dawn or was stopped.
+ */
+public class AuroraEndEvent extends AuroraEvent {
+
+    public AuroraEndEvent(ServerLevel level, long cell, AuroraState state) {
+        super(level, cell, state);
+    }
+}
@@ -0,0 +1,43 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.Event;
+
+/**
+ * Base class for regional aurora lifecycle events, posted on the NeoForge event bus.
+ * Subscribers can switch into and out of an aurora-aware mode once per transition
+ * instead of polling {@link com.breakinblocks.auroral.util.AuroraHelper#isAuroraActive} every tick.
+ */
+public abstract class AuroraEvent extends Event {
+    private final ServerLevel level;
+    private final long cell;
+    private final AuroraState state;
+
+    protected AuroraEvent(ServerLevel level, long cell, AuroraState state) {
+        this.level = level;
+        this.cell = cell;
+        this.state = state;
+    }
+
+    /**
+     * Gets the level the aurora is in.
+     */
+    public ServerLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the packed region cell the aurora is in.
+     */
+    public long getCell() {
+        return cell;
+    }
+
+    /**
+     * Gets the aurora state of the region (the new state on start, the ended state on end).
+     */
+    public AuroraState getState() {
+        return state;
+    }
+}
@@ -5,41 +5,73 @@ import com.breakinblocks.auroral.config.AuroralConfig;
 import com.breakinblocks.auroral.entity.AuroralNautilusEntity;
 import com.breakinblocks.auroral.net.AuroralNetworking;
 import com.breakinblocks.auroral.registry.ModBlocks;
+import com.breakinblocks.auroral.registry.ModDataAttachments;
 import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
 import com.breakinblocks.auroral.registry.ModEntities;
 import com.breakinblocks.auroral.registry.ModSounds;
+import com.breakinblocks.auroral.util.AuroraForecast;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraListeners;
+import com.breakinblocks.auroral.util.AuroraRegions;
+import com.breakinblocks.auroral.util.AuroraSnapshot;
 import com.breakinblocks.auroral.util.BiomeHelper;
+import com.breakinblocks.auroral.util.BloomLedger;
+import com.breakinblocks.auroral.util.BloomSurfaceCache;
+import com.breakinblocks.auroral.util.NautilusPopulation;
 import com.breakinblocks.auroral.util.SnowBlockHelper;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.EntitySpawnReason;
-import net.minecraft.world.level.Level;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Handles aurora event triggering and lifecycle.
  */
 @EventBusSubscriber(modid = Auroral.MOD_ID)
 public class AuroraEventHandler {
 
-    // Track last day time to detect night transition (per dimension)
-    private static final Map<ResourceKey<Level>, Long> lastDayTimeByDimension = new ConcurrentHashMap<>();
+    /**
+     * Day time at which night starts and the aurora roll happens.
+     */
+    private static final long NIGHT_START = 13000;
+
+    /**
+     * Day time at which any active aurora ends.
+     */
+    private static final long DAWN = 23000;
+
+    private static final long DAY_LENGTH = 24000;
+
+    // Scheduled aurora lifecycle deadlines - only the overworld has auroras (null until its first tick)
+    private static AuroraTimers overworldTimers;
 
-    // Track spawned bloom positions per dimension for O(1) removal instead of O(n³)
-    private static final Map<ResourceKey<Level>, Set<BlockPos>> spawnedBloomsByDimension = new ConcurrentHashMap<>();
+    // Region cells already seeded from a legacy level-wide aurora (overworld only)
+    private static final LongSet legacySeededCells = new LongOpenHashSet();
 
     @SubscribeEvent
     public static void onLevelTick(LevelTickEvent.Post event) {
@@ -52,31 +84,213 @@ public class AuroraEventHandler {
             return;
         }
 
-        ResourceKey<Level> dimensionKey = level.dimension();
-        long currentDayTime = level.getDayTime() % 24000;
+        AuroraTimers timers = overworldTimers;
+        if (timers == null) {
+            timers = overworldTimers = new AuroraTimers();
+        }
         long gameTime = level.getGameTime();
+        long dayTime = level.getDayTime();
+
+        if (!timers.initialized) {
+            onTimeJump(level, timers, gameTime);
+        } else {
+            long dayAdvance = dayTime - timers.lastDayTime;
+            if (dayAdvance == 0) {
+                // Daylight cycle frozen - deadlines assume a running clock, so reschedule once when it stops
+                if (!timers.dayTimeFrozen) {
+                    timers.dayTimeFrozen = true;
+                    rescheduleTimers(level, timers, gameTime);
+                }
+            } else if (dayAdvance != gameTime - timers.lastGameTime) {
+                // Day time moved independently of game time (/time set, sleeping) - reschedule
+                timers.dayTimeFrozen = false;
+                onTimeJump(level, timers, gameTime);
+            } else if (timers.dayTimeFrozen) {
+                // Daylight cycle resumed
+                timers.dayTimeFrozen = false;
+                rescheduleTimers(level, timers, gameTime);
+            }
+        }
+        timers.lastDayTime = dayTime;
+        timers.lastGameTime = gameTime;
+
+        // Idle: nothing is due yet
+        if (gameTime < timers.nextDeadline) {
+            return;
+        }
+
+        runDueTimers(level, timers, gameTime);
+    }
 
-        // Check for night start transition (13000) - per dimension
-        long lastDayTime = lastDayTimeByDimension.getOrDefault(dimensionKey, -1L);
-        if (lastDayTime >= 0 && lastDayTime < 13000 && currentDayTime >= 13000) {
-            onNightStart(level, gameTime);
+    /**
+     * Handles a jump in day time. Rolls for an aurora if the jump crossed into night,
+     * then reschedules every deadline from the new day time.
+     */
+    private static void onTimeJump(ServerLevel level, AuroraTimers timers, long gameTime) {
+        if (timers.initialized) {
+            long previousDayTime = Math.floorMod(timers.lastDayTime, DAY_LENGTH);
+            long currentDayTime = level.getDayTime() % DAY_LENGTH;
+            if (previousDayTime < NIGHT_START && currentDayTime >= NIGHT_START) {
+                onNightStart(level);
+            }
         }
 
-        lastDayTimeByDimension.put(dimensionKey, currentDayTime);
+        timers.initialized = true;
+        rescheduleTimers(level, timers, gameTime);
+    }
 
-        // Check if current aurora should end
-        AuroraState state = AuroraHelper.getAuroraState(level);
-        if (state.active()) {
-            // End aurora at dawn (23000) or if duration expired
-            if (currentDayTime >= 23000 || currentDayTime < 13000 || state.isExpired(gameTime)) {
-                endAurora(level);
-            } else {
+    /**
+     * Runs every deadline that has been reached, then schedules the next ones.
+     */
+    private static void runDueTimers(ServerLevel level, AuroraTimers timers, long gameTime) {
+        long currentDayTime = level.getDayTime() % DAY_LENGTH;
+
+        // Night start roll - confirm against the real day time in case the daylight cycle is frozen
+        boolean isNight = currentDayTime >= NIGHT_START && currentDayTime < DAWN;
+        if (gameTime >= timers.nextNightStart && isNight) {
+            onNightStart(level);
+        }
+
+        // Start forecast auroras whose start offset has been reached
+        if (gameTime >= timers.nextScheduledStart) {
+            startScheduledAuroras(level, gameTime, isNight);
+        }
+
+        // Clean up blooms left over in chunks that have loaded since the last aurora ended,
+        // then drain queued bloom removals within the per-tick budget
+        if (gameTime >= timers.nextCleanup) {
+            applyPendingBloomRemovals(level);
+            drainBloomRemovals(level);
+        }
+
+        if (AuroraSnapshot.get(level).anyActive()) {
+            // End regional auroras at dawn (23000) or when their duration expired
+            if (gameTime >= timers.auroraEnd) {
+                endExpiredAuroras(level, gameTime, isNight);
+            }
+
+            // Ending publishes a new snapshot - read it again
+            AuroraSnapshot snapshot = AuroraSnapshot.get(level);
+            if (snapshot.anyActive()) {
                 // Aurora is active - spawn Frost-Glaze Blooms
-                trySpawnFrostGlazeBlooms(level, gameTime);
+                if (gameTime >= timers.nextBloomPulse) {
+                    trySpawnFrostGlazeBlooms(level);
+                    postAuroraPulse(level, snapshot, gameTime);
+                }
                 // Aurora is active - try to spawn Auroral Nautilus
-                trySpawnAuroralNautilus(level, gameTime);
+                if (gameTime >= timers.nextNautilusPulse) {
+                    trySpawnAuroralNautilus(level);
+                }
             }
         }
+
+        rescheduleTimers(level, timers, gameTime);
+    }
+
+    /**
+     * Notifies listeners and event subscribers of a spawn pulse in every active region.
+     */
+    private static void postAuroraPulse(ServerLevel level, AuroraSnapshot snapshot, long gameTime) {
+        // Snapshots are immutable, so subscribers may start or end auroras while we iterate
+        for (Long2ObjectMap.Entry<AuroraState> entry : snapshot.activeCells().long2ObjectEntrySet()) {
+            AuroraListeners.notifyPulse(level, entry.getLongKey(), entry.getValue());
+            NeoForge.EVENT_BUS.post(new AuroraPulseEvent(level, entry.getLongKey(), entry.getValue(), gameTime));
+        }
+    }
+
+    /**
+     * Recomputes every deadline as an absolute game time from the current day time and regional aurora states.
+     */
+    private static void rescheduleTimers(ServerLevel level, AuroraTimers timers, long gameTime) {
+        long currentDayTime = level.getDayTime() % DAY_LENGTH;
+
+        // Next night start (a roll exactly at night start has already happened this tick)
+        long ticksUntilNight = ticksUntil(currentDayTime, NIGHT_START);
+        timers.nextNightStart = gameTime + (ticksUntilNight == 0 ? DAY_LENGTH : ticksUntilNight);
+
+        boolean isNight = currentDayTime >= NIGHT_START && currentDayTime < DAWN;
+        AuroraSnapshot snapshot = AuroraSnapshot.get(level);
+        if (snapshot.hasScheduled()) {
+            // Scheduled auroras left over outside the night window are dropped right away
+            timers.nextScheduledStart = isNight ? snapshot.earliestScheduledStartTick() : gameTime;
+        } else {
+            timers.nextScheduledStart = Long.MAX_VALUE;
+        }
+
+        if (snapshot.anyActive()) {
+            // Wake for the first regional aurora to end; outside the night window they all end right away
+            timers.auroraEnd = isNight
+                ? Math.min(snapshot.earliestEndTick(), gameTime + ticksUntil(currentDayTime, DAWN))
+                : gameTime;
+            timers.nextBloomPulse = nextMultipleAfter(gameTime, BLOOM_SPAWN_INTERVAL);
+            timers.nextNautilusPulse = nextMultipleAfter(gameTime, NAUTILUS_SPAWN_INTERVAL);
+        } else {
+            timers.auroraEnd = Long.MAX_VALUE;
+            timers.nextBloomPulse = Long.MAX_VALUE;
+            timers.nextNautilusPulse = Long.MAX_VALUE;
+        }
+
+        timers.nextCleanup = hasPendingBloomCleanup(level) ? gameTime + 1 : Long.MAX_VALUE;
+        timers.updateNextDeadline();
+    }
+
+    /**
+     * Reschedules the aurora timers after a regional aurora state changed
+     * (e.g., from a command or an Aurora Shard).
+     */
+    public static void onAuroraStateChanged(ServerLevel level) {
+        AuroraTimers timers = overworldTimers;
+        if (timers != null && timers.initialized && BiomeHelper.dimensionSupportsAurora(level)) {
+            rescheduleTimers(level, timers, level.getGameTime());
+        }
+    }
+
+    /**
+     * Wakes the bloom cleanup timer for the next tick.
+     */
+    private static void scheduleBloomCleanup(ServerLevel level) {
+        AuroraTimers timers = overworldTimers;
+        if (timers != null && BiomeHelper.dimensionSupportsAurora(level)) {
+            timers.nextCleanup = Math.min(timers.nextCleanup, level.getGameTime() + 1);
+            timers.updateNextDeadline();
+        }
+    }
+
+    /**
+     * Ticks from {@code dayTime} until the next time the day clock reads {@code target}.
+     */
+    private static long ticksUntil(long dayTime, long target) {
+        return Math.floorMod(target - dayTime, DAY_LENGTH);
+    }
+
+    /**
+     * Smallest multiple of {@code interval} strictly after {@code gameTime}.
+     */
+    private static long nextMultipleAfter(long gameTime, long interval) {
+        return (gameTime / interval + 1) * interval;
+    }
+
+    /**
+     * Absolute game-time deadlines for one level's aurora lifecycle.
+     * An idle tick costs a day time check and a single comparison against {@link #nextDeadline}.
+     */
+    private static final class AuroraTimers {
+        boolean initialized;
+        boolean dayTimeFrozen;
+        long lastDayTime;
+        long lastGameTime;
+        long nextNightStart = Long.MAX_VALUE;
+        long nextScheduledStart = Long.MAX_VALUE;
+        long auroraEnd = Long.MAX_VALUE;
+        long nextBloomPulse = Long.MAX_VALUE;
+        long nextNautilusPulse = Long.MAX_VALUE;
+        long nextCleanup = Long.MAX_VALUE;
+        long nextDeadline = Long.MAX_VALUE;
+
+        void updateNextDeadline() {
+            nextDeadline = Math.min(Math.min(Math.min(nextNightStart, nextScheduledStart), auroraEnd),
+                Math.min(Math.min(nextBloomPulse, nextNautilusPulse), nextCleanup));
+        }
     }
 
     /**
@@ -90,35 +304,25 @@ public class AuroraEventHandler {
     private static final double NAUTILUS_SPAWN_CHANCE = 0.08;
 
     /**
-     * Maximum Auroral Nautiluses that can exist per player.
+     * Maximum Auroral Nautiluses that can exist around each player's area.
      */
     private static final int MAX_NAUTILUSES_PER_PLAYER = 3;
 
     /**
      * Attempts to spawn Auroral Nautilus entities near players in cold biomes during aurora.
      */
-    private static void trySpawnAuroralNautilus(ServerLevel level, long gameTime) {
-        // Only check every few seconds for performance
-        if (gameTime % NAUTILUS_SPAWN_INTERVAL != 0) {
-            return;
-        }
-
+    private static void trySpawnAuroralNautilus(ServerLevel level) {
         RandomSource random = level.getRandom();
 
-        // Count existing nautiluses (just check all entities in the level)
-        long existingNautiluses = level.getEntities(
-            ModEntities.AURORAL_NAUTILUS.get(),
-            entity -> true
-        ).size();
-
-        int maxTotal = level.players().size() * MAX_NAUTILUSES_PER_PLAYER;
-        if (existingNautiluses >= maxTotal) {
-            return;
-        }
-
         for (ServerPlayer player : level.players()) {
-            // Only spawn near players in cold biomes
-            if (!BiomeHelper.isColdBiome(level, player.blockPosition())) {
+            // Only spawn near players in cold biomes under an active regional aurora
+            if (!AuroraHelper.isAuroraActive(level, player.blockPosition())
+                || !BiomeHelper.isColdBiome(level, player.blockPosition())) {
+                continue;
+            }
+
+            // Per-player-area quota from the live population counts
+            if (NautilusPopulation.countNear(level, player.blockPosition()) >= MAX_NAUTILUSES_PER_PLAYER) {
                 continue;
             }
 
@@ -147,6 +351,41 @@ public class AuroraEventHandler {
         }
     }
 
+    /**
+     * Counts Auroral Nautiluses as they join a level (spawned or loaded).
+     * Runs last so a join cancelled by another handler is never counted.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof AuroralNautilusEntity nautilus && event.getLevel() instanceof ServerLevel level) {
+            NautilusPopulation.add(nautilus);
+            nautilus.trackAurora(level);
+        }
+    }
+
+    /**
+     * Stops counting Auroral Nautiluses as they leave a level (removed or unloaded).
+     */
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getEntity() instanceof AuroralNautilusEntity nautilus && event.getLevel() instanceof ServerLevel level) {
+            NautilusPopulation.remove(nautilus);
+            nautilus.untrackAurora(level);
+        }
+    }
+
+    /**
+     * Keeps per-area nautilus counts and aurora listeners current as they fly between chunks.
+     */
+    @SubscribeEvent
+    public static void onEntityEnteringSection(EntityEvent.EnteringSection event) {
+        if (event.didChunkChange() && event.getEntity() instanceof AuroralNautilusEntity nautilus
+            && nautilus.level() instanceof ServerLevel level) {
+            NautilusPopulation.move(nautilus);
+            nautilus.trackAurora(level);
+        }
+    }
+
     /**
      * Spawns an Auroral Nautilus at the given position.
      */
@@ -193,19 +432,22 @@ public class AuroraEventHandler {
     private static final double BLOOM_SPAWN_CHANCE = 0.3;
 
     /**
-     * Attempts to spawn Frost-Glaze Blooms near players in cold biomes during Aurora.
+     * Maximum vertical distance between a player and a bloom surface.
+     * Same reach as the old vertical search around the player's Y, so blooms don't appear
+     * on a surface far above players in caves or far below players on peaks.
      */
-    private static void trySpawnFrostGlazeBlooms(ServerLevel level, long gameTime) {
-        // Only attempt spawn every few seconds
-        if (gameTime % BLOOM_SPAWN_INTERVAL != 0) {
-            return;
-        }
+    private static final int BLOOM_SURFACE_SEARCH_RANGE = 10;
 
+    /**
+     * Attempts to spawn Frost-Glaze Blooms near players in cold biomes during Aurora.
+     */
+    private static void trySpawnFrostGlazeBlooms(ServerLevel level) {
         RandomSource random = level.getRandom();
 
         for (ServerPlayer player : level.players()) {
-            // Only spawn near players in cold biomes
-            if (!BiomeHelper.isColdBiome(level, player.blockPosition())) {
+            // Only spawn near players in cold biomes under an active regional aurora
+            if (!AuroraHelper.isAuroraActive(level, player.blockPosition())
+                || !BiomeHelper.isColdBiome(level, player.blockPosition())) {
                 continue;
             }
 
@@ -219,28 +461,36 @@ public class AuroraEventHandler {
             int attempts = 5;
 
             for (int i = 0; i < attempts; i++) {
-                int offsetX = random.nextInt(32) - 16;
-                int offsetZ = random.nextInt(32) - 16;
-                BlockPos checkPos = playerPos.offset(offsetX, 0, offsetZ);
+                int x = playerPos.getX() + random.nextInt(32) - 16;
+                int z = playerPos.getZ() + random.nextInt(32) - 16;
+
+                // Cached heightmap surface - O(1) once the column has been resolved
+                int surfaceY = BloomSurfaceCache.getSurfaceY(level, x, z);
+                if (surfaceY == BloomSurfaceCache.NO_SURFACE
+                    || Math.abs(surfaceY - playerPos.getY()) > BLOOM_SURFACE_SEARCH_RANGE) {
+                    continue;
+                }
 
-                // Find surface
-                BlockPos surfacePos = findSurfaceSnow(level, checkPos);
-                if (surfacePos != null && canPlaceBloom(level, surfacePos)) {
-                    BlockState surfaceState = level.getBlockState(surfacePos);
+                BlockPos surfacePos = new BlockPos(x, surfaceY, z);
+                BlockState surfaceState = level.getBlockState(surfacePos);
+                if (!SnowBlockHelper.isBloomSurface(surfaceState)) {
+                    // Stale column - let it resolve again on the next lookup
+                    BloomSurfaceCache.invalidate(level, surfacePos);
+                    continue;
+                }
 
-                    // If it's a snow layer, replace it with the bloom
-                    if (SnowBlockHelper.isSnowLayer(surfaceState)) {
-                        level.setBlock(surfacePos, ModBlocks.AURORA_BLOOM.get().defaultBlockState(), 3);
-                        trackBloomPosition(level, surfacePos);
+                // If it's a snow layer, replace it with the bloom
+                if (SnowBlockHelper.isSnowLayer(surfaceState)) {
+                    level.setBlock(surfacePos, ModBlocks.AURORA_BLOOM.get().defaultBlockState(), 3);
+                    trackBloomPosition(level, surfacePos);
+                    break;
+                } else {
+                    // For snow blocks, powder snow, or shimmering ice, place above
+                    BlockPos bloomPos = surfacePos.above();
+                    if (level.isEmptyBlock(bloomPos)) {
+                        level.setBlock(bloomPos, ModBlocks.AURORA_BLOOM.get().defaultBlockState(), 3);
+                        trackBloomPosition(level, bloomPos);
                         break;
-                    } else {
-                        // For snow blocks, powder snow, or shimmering ice, place above
-                        BlockPos bloomPos = surfacePos.above();
-                        if (level.isEmptyBlock(bloomPos)) {
-                            level.setBlock(bloomPos, ModBlocks.AURORA_BLOOM.get().defaultBlockState(), 3);
-                            trackBloomPosition(level, bloomPos);
-                            break;
-                        }
                     }
                 }
             }
@@ -248,33 +498,74 @@ public class AuroraEventHandler {
     }
 
     /**
-     * Finds a snow surface block at or near the given position.
+     * Resets cached bloom surface columns when a block in them changes.
      */
-    private static BlockPos findSurfaceSnow(ServerLevel level, BlockPos pos) {
-        // Search from player Y up and down
-        for (int y = -10; y <= 10; y++) {
-            BlockPos checkPos = pos.offset(0, y, 0);
-            BlockState state = level.getBlockState(checkPos);
-            if (isValidBloomSurface(state)) {
-                return checkPos;
-            }
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            BloomSurfaceCache.invalidate(level, event.getPos());
         }
-        return null;
     }
 
     /**
-     * Checks if a block is a valid surface for Frost-Glaze Blooms.
+     * Drops cached bloom surface columns for chunks that unload.
      */
-    private static boolean isValidBloomSurface(BlockState state) {
-        return SnowBlockHelper.isBloomSurface(state);
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            BloomSurfaceCache.invalidateChunk(level, event.getChunk().getPos());
+        }
     }
 
     /**
-     * Checks if a bloom can be placed at the given surface position.
+     * Publishes the persisted aurora regions as the level's aurora snapshot when it loads.
      */
-    private static boolean canPlaceBloom(ServerLevel level, BlockPos surfacePos) {
-        BlockState state = level.getBlockState(surfacePos);
-        return isValidBloomSurface(state);
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            AuroraSnapshot.publish(level, AuroraHelper.getAuroraRegions(level));
+        }
+    }
+
+    /**
+     * Carries a level-wide aurora saved before auroras became regional over to the region
+     * containing {@code pos}, so an aurora active when the world was upgraded goes on wherever
+     * players are until its original end tick. Each region is seeded once; the legacy state is
+     * dropped once it has expired or ended.
+     */
+    public static void migrateLegacyAurora(ServerLevel level, BlockPos pos) {
+        if (!level.hasData(ModDataAttachments.LEGACY_AURORA_STATE)) {
+            return;
+        }
+
+        AuroraState legacy = level.getData(ModDataAttachments.LEGACY_AURORA_STATE);
+        long gameTime = level.getGameTime();
+        if (!legacy.active() || legacy.isExpired(gameTime)) {
+            level.removeData(ModDataAttachments.LEGACY_AURORA_STATE);
+            return;
+        }
+
+        long cell = AuroraRegions.cellKey(pos);
+        if (legacySeededCells.add(cell) && !AuroraHelper.getAuroraRegions(level).get(cell).active()) {
+            AuroraHelper.startAurora(level, cell, legacy.endTick() - gameTime);
+        }
+    }
+
+    /**
+     * Drops cached bloom surface columns, nautilus counts, aurora listeners, snapshots and timers when a level unloads.
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            AuroraSnapshot.clear(level);
+            BloomSurfaceCache.clear(level);
+            NautilusPopulation.clear(level);
+            AuroraListeners.clear(level);
+            if (BiomeHelper.dimensionSupportsAurora(level)) {
+                overworldTimers = null;
+                legacySeededCells.clear();
+            }
+        }
     }
 
     /**
@@ -283,50 +574,102 @@ public class AuroraEventHandler {
     private static final double HEARTHWOOD_LOG_AURORA_BONUS = 0.15;
 
     /**
-     * Called when night starts. Rolls for aurora chance.
+     * Called when night starts. Checks tonight's forecast independently in each region
+     * with at least one player in a cold biome, and schedules the auroras it calls for.
      */
-    private static void onNightStart(ServerLevel level, long gameTime) {
-        // Check if there are any players in cold biomes
-        boolean anyPlayerInCold = false;
-        int totalHearthwoodLogs = 0;
+    private static void onNightStart(ServerLevel level) {
+        // Group players in cold biomes by region, counting Hearthwood Logs near them
+        Long2IntOpenHashMap hearthwoodLogsByCell = new Long2IntOpenHashMap();
 
         for (ServerPlayer player : level.players()) {
             if (BiomeHelper.isColdBiome(level, player.blockPosition())) {
-                anyPlayerInCold = true;
                 // Count Hearthwood Logs near this player for Aurora Catalyst effect
-                totalHearthwoodLogs += HearthwoodLogEventHandler.countNearbyLitHearthwoodLogs(
-                    level, player.blockPosition(), 32.0);
+                hearthwoodLogsByCell.addTo(AuroraRegions.cellKey(player.blockPosition()),
+                    HearthwoodLogEventHandler.countNearbyLitHearthwoodLogs(level, player.blockPosition(), 32.0));
             }
         }
 
-        // Only roll for aurora if at least one player is in a cold biome
-        // This prevents aurora from triggering when no one can experience it
-        if (!anyPlayerInCold) {
+        // Only roll in regions where at least one player is in a cold biome
+        // This prevents aurora from triggering where no one can experience it
+        if (hearthwoodLogsByCell.isEmpty()) {
             return;
         }
 
-        // Roll for aurora with Hearthwood Log bonus
-        RandomSource random = level.getRandom();
         double baseChance = AuroralConfig.SERVER.auroraChance.get();
+        long day = AuroraHelper.getNextNightDay(level);
+        long gameTime = level.getGameTime();
+        long nightStartTick = gameTime - (level.getDayTime() % DAY_LENGTH - NIGHT_START);
+        long dawnTick = nightStartTick + (DAWN - NIGHT_START);
+        AuroraSnapshot snapshot = AuroraSnapshot.get(level);
+        AuroraRegions regions = AuroraHelper.getAuroraRegions(level);
+        boolean scheduled = false;
+
+        for (Long2IntMap.Entry entry : hearthwoodLogsByCell.long2IntEntrySet()) {
+            long cell = entry.getLongKey();
+            if (snapshot.get(cell).active() || regions.getScheduled(cell).active()) {
+                continue;
+            }
+
+            // Each Hearthwood Log adds bonus chance (capped at +45% for 3 logs)
+            int hearthwoodLogs = entry.getIntValue();
+            double hearthwoodLogBonus = Math.min(hearthwoodLogs * HEARTHWOOD_LOG_AURORA_BONUS, 0.45);
+            double totalChance = Math.min(baseChance + hearthwoodLogBonus, 0.95); // Cap at 95%
+
+            if (hearthwoodLogs > 0) {
+                Auroral.LOGGER.debug("Aurora Catalyst: {} Hearthwood Logs detected in region {}, chance boosted from {}% to {}%",
+                    hearthwoodLogs, AuroraRegions.formatCell(cell), (int)(baseChance * 100), (int)(totalChance * 100));
+            }
+
+            // Deterministic roll from the world seed, day and region
+            AuroraForecast forecast = AuroraHelper.getForecast(level, cell, day);
+            if (forecast.occurs(totalChance)) {
+                // Clamp duration to not extend past dawn; a start offset already passed starts right away
+                long startTick = Math.max(nightStartTick + forecast.startOffset(), gameTime);
+                long endTick = Math.min(startTick + forecast.duration(), dawnTick);
+                if (endTick > startTick) {
+                    regions.schedule(cell, startTick, endTick);
+                    scheduled = true;
+                    Auroral.LOGGER.debug("Aurora forecast for region {} tonight, starting in {} ticks",
+                        AuroraRegions.formatCell(cell), startTick - gameTime);
+                }
+            }
+        }
 
-        // Each Hearthwood Log adds bonus chance (capped at +45% for 3 logs)
-        double hearthwoodLogBonus = Math.min(totalHearthwoodLogs * HEARTHWOOD_LOG_AURORA_BONUS, 0.45);
-        double totalChance = Math.min(baseChance + hearthwoodLogBonus, 0.95); // Cap at 95%
+        if (scheduled) {
+            level.setData(ModDataAttachments.AURORA_REGIONS, regions);
+            AuroraSnapshot.publish(level, regions);
+        }
+    }
 
-        if (totalHearthwoodLogs > 0) {
-            Auroral.LOGGER.debug("Aurora Catalyst: {} Hearthwood Logs detected, chance boosted from {}% to {}%",
-                totalHearthwoodLogs, (int)(baseChance * 100), (int)(totalChance * 100));
+    /**
+     * Starts the scheduled regional auroras that are due, or drops them all once night is over.
+     */
+    private static void startScheduledAuroras(ServerLevel level, long gameTime, boolean isNight) {
+        AuroraRegions regions = AuroraHelper.getAuroraRegions(level);
+        if (!isNight) {
+            regions.clearScheduled();
+            level.setData(ModDataAttachments.AURORA_REGIONS, regions);
+            AuroraSnapshot.publish(level, regions);
+            return;
         }
 
-        if (random.nextDouble() < totalChance) {
-            startAurora(level, gameTime, random);
+        Long2ObjectMap<AuroraState> due = regions.takeDueScheduled(gameTime);
+        level.setData(ModDataAttachments.AURORA_REGIONS, regions);
+        AuroraSnapshot.publish(level, regions);
+
+        for (Long2ObjectMap.Entry<AuroraState> entry : due.long2ObjectEntrySet()) {
+            // Skip regions that were started early (e.g., by a command or an Aurora Shard)
+            long duration = entry.getValue().endTick() - gameTime;
+            if (duration > 0 && !AuroraSnapshot.get(level).get(entry.getLongKey()).active()) {
+                startAurora(level, entry.getLongKey(), duration);
+            }
         }
     }
 
     /**
-     * Starts an aurora event.
+     * Starts an aurora event with a random duration in a region cell.
      */
-    private static void startAurora(ServerLevel level, long gameTime, RandomSource random) {
+    private static void startAurora(ServerLevel level, long cell, RandomSource random) {
         int minDuration = AuroralConfig.SERVER.auroraMinDuration.get();
         int maxDuration = AuroralConfig.SERVER.auroraMaxDuration.get();
 
@@ -338,49 +681,84 @@ public class AuroraEventHandler {
         long ticksUntilDawn = (23000 - currentDayTime + 24000) % 24000;
         duration = (int) Math.min(duration, ticksUntilDawn);
 
-        AuroraHelper.startAurora(level, duration);
+        startAurora(level, cell, duration);
+    }
 
-        Auroral.LOGGER.info("Aurora started! Duration: {} ticks ({} seconds)",
-            duration, duration / 20);
+    /**
+     * Starts an aurora event of the given duration in a region cell.
+     */
+    private static void startAurora(ServerLevel level, long cell, long duration) {
+        if (!AuroraHelper.startAurora(level, cell, duration)) {
+            Auroral.LOGGER.debug("Aurora start in region {} was canceled", AuroraRegions.formatCell(cell));
+            return;
+        }
 
-        // Play aurora start sound for all players in cold biomes
+        Auroral.LOGGER.info("Aurora started in region {}! Duration: {} ticks ({} seconds)",
+            AuroraRegions.formatCell(cell), duration, duration / 20);
+
+        // Play aurora start sound for players in cold biomes in this region
         for (ServerPlayer player : level.players()) {
-            if (BiomeHelper.isColdBiome(level, player.blockPosition())) {
+            if (AuroraRegions.cellKey(player.blockPosition()) == cell
+                && BiomeHelper.isColdBiome(level, player.blockPosition())) {
                 level.playSound(null, player.getX(), player.getY(), player.getZ(),
                     ModSounds.AURORA_START.get(), SoundSource.AMBIENT, 1.0f, 1.0f);
             }
         }
 
-        // Sync to all clients
-        AuroralNetworking.syncAuroraToAll(level, true);
+        // Sync to clients in this region
+        AuroralNetworking.syncAuroraToRegion(level, cell, true);
     }
 
     /**
-     * Ends the current aurora event.
+     * Ends every regional aurora whose duration expired, or all of them once night is over.
      */
-    private static void endAurora(ServerLevel level) {
-        AuroraState currentState = AuroraHelper.getAuroraState(level);
-        if (!currentState.active()) {
-            return;
+    private static void endExpiredAuroras(ServerLevel level, long gameTime, boolean isNight) {
+        LongList expired = new LongArrayList();
+        for (Long2ObjectMap.Entry<AuroraState> entry : AuroraSnapshot.get(level).activeCells().long2ObjectEntrySet()) {
+            if (!isNight || entry.getValue().isExpired(gameTime)) {
+                expired.add(entry.getLongKey());
+            }
+        }
+
+        for (int i = 0; i < expired.size(); i++) {
+            endAurora(level, expired.getLong(i));
         }
+    }
 
-        AuroraHelper.endAurora(level);
+    /**
+     * Ends the aurora event in a region cell.
+     */
+    private static void endAurora(ServerLevel level, long cell) {
+        if (!AuroraHelper.endAurora(level, cell)) {
+            return;
+        }
 
-        Auroral.LOGGER.info("Aurora ended.");
+        Auroral.LOGGER.info("Aurora ended in region {}.", AuroraRegions.formatCell(cell));
 
-        // Remove aurora blooms near all players
-        removeAuroraBlooms(level);
+        // Remove aurora blooms spawned in this region
+        removeAuroraBlooms(level, cell);
+        if (!AuroraHelper.isAuroraActive(level)) {
+            BloomSurfaceCache.clear(level);
+        }
 
-        // Play aurora end sound for all players in cold biomes
+        // Play aurora end sound for players in cold biomes in this region
         for (ServerPlayer player : level.players()) {
-            if (BiomeHelper.isColdBiome(level, player.blockPosition())) {
+            if (AuroraRegions.cellKey(player.blockPosition()) == cell
+                && BiomeHelper.isColdBiome(level, player.blockPosition())) {
                 level.playSound(null, player.getX(), player.getY(), player.getZ(),
                     ModSounds.AURORA_END.get(), SoundSource.AMBIENT, 1.0f, 1.0f);
             }
         }
 
-        // Sync to all clients
-        AuroralNetworking.syncAuroraToAll(level, false);
+        // Sync to clients in this region
+        AuroralNetworking.syncAuroraToRegion(level, cell, false);
+    }
+
+    /**
+     * Gets the persistent bloom ledger for a level.
+     */
+    private static BloomLedger getBloomLedger(ServerLevel level) {
+        return level.getData(ModDataAttachments.BLOOM_LEDGER);
     }
 
     /**
@@ -388,64 +766,190 @@ public class AuroraEventHandler {
      * O(1) insertion instead of requiring O(n³) search on removal.
      */
     private static void trackBloomPosition(ServerLevel level, BlockPos pos) {
-        ResourceKey<Level> dimensionKey = level.dimension();
-        spawnedBloomsByDimension
-            .computeIfAbsent(dimensionKey, k -> ConcurrentHashMap.newKeySet())
-            .add(pos.immutable());
+        BloomLedger ledger = getBloomLedger(level);
+        ledger.track(pos);
+        level.setData(ModDataAttachments.BLOOM_LEDGER, ledger);
     }
 
     /**
      * Removes a bloom position from tracking (e.g., when player harvests it).
      */
     public static void untrackBloomPosition(ServerLevel level, BlockPos pos) {
-        ResourceKey<Level> dimensionKey = level.dimension();
-        Set<BlockPos> blooms = spawnedBloomsByDimension.get(dimensionKey);
-        if (blooms != null) {
-            blooms.remove(pos);
+        if (!level.hasData(ModDataAttachments.BLOOM_LEDGER)) {
+            return;
+        }
+        BloomLedger ledger = getBloomLedger(level);
+        ledger.untrack(pos);
+        level.setData(ModDataAttachments.BLOOM_LEDGER, ledger);
+    }
+
+    /**
+     * Queues the tracked aurora blooms in a region for removal when its aurora ends.
+     * Blooms in loaded chunks are drained over the following ticks by {@link #drainBloomRemovals};
+     * the rest are deferred until their chunk loads.
+     */
+    private static void removeAuroraBlooms(ServerLevel level, long cell) {
+        BloomLedger ledger = getBloomLedger(level);
+        Long2ObjectMap<LongSet> blooms = ledger.takeBlooms(chunkKey -> AuroraRegions.cellKeyForChunk(chunkKey) == cell);
+
+        if (blooms.isEmpty()) {
+            return;
+        }
+
+        int deferredChunks = 0;
+
+        for (Long2ObjectMap.Entry<LongSet> entry : blooms.long2ObjectEntrySet()) {
+            long chunkKey = entry.getLongKey();
+            if (!level.hasChunk(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey))) {
+                ledger.deferRemoval(chunkKey, entry.getValue());
+                deferredChunks++;
+                continue;
+            }
+            ledger.queueRemovals(entry.getValue());
+        }
+
+        level.setData(ModDataAttachments.BLOOM_LEDGER, ledger);
+
+        Auroral.LOGGER.debug("Queued {} chunks of aurora blooms for removal at sunrise, deferred {} unloaded chunks",
+            blooms.size() - deferredChunks, deferredChunks);
+    }
+
+    /**
+     * Checks if the bloom ledger has removals ready to be processed.
+     */
+    private static boolean hasPendingBloomCleanup(ServerLevel level) {
+        if (!level.hasData(ModDataAttachments.BLOOM_LEDGER)) {
+            return false;
+        }
+        BloomLedger ledger = getBloomLedger(level);
+        return ledger.hasQueuedRemovals() || ledger.hasLoadedChunksAwaitingCleanup();
+    }
+
+    /**
+     * Queues deferred bloom removals for chunks that loaded since the last tick.
+     */
+    private static void applyPendingBloomRemovals(ServerLevel level) {
+        if (!level.hasData(ModDataAttachments.BLOOM_LEDGER)) {
+            return;
+        }
+
+        BloomLedger ledger = getBloomLedger(level);
+        LongList loadedChunks = ledger.drainLoadedChunks();
+        if (loadedChunks.isEmpty()) {
+            return;
         }
+
+        for (int i = 0; i < loadedChunks.size(); i++) {
+            long chunkKey = loadedChunks.getLong(i);
+            // Chunk may have unloaded again before this tick - keep it pending
+            if (!level.hasChunk(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey))) {
+                continue;
+            }
+            LongSet positions = ledger.takePendingRemovals(chunkKey);
+            if (positions != null) {
+                ledger.queueRemovals(positions);
+            }
+        }
+
+        level.setData(ModDataAttachments.BLOOM_LEDGER, ledger);
     }
 
     /**
-     * Removes all tracked aurora blooms when the aurora ends.
-     * Uses position tracking for O(n) removal instead of O(n³) cube search.
+     * Removes queued blooms, at most {@code bloom_cleanup_budget} per tick.
+     * Removals are coalesced into a single particle burst per chunk section
+     * instead of a block-break event and particle packet per bloom.
      */
-    private static void removeAuroraBlooms(ServerLevel level) {
-        ResourceKey<Level> dimensionKey = level.dimension();
-        Set<BlockPos> blooms = spawnedBloomsByDimension.remove(dimensionKey);
+    private static void drainBloomRemovals(ServerLevel level) {
+        if (!level.hasData(ModDataAttachments.BLOOM_LEDGER)) {
+            return;
+        }
 
-        if (blooms == null || blooms.isEmpty()) {
+        BloomLedger ledger = getBloomLedger(level);
+        if (!ledger.hasQueuedRemovals()) {
             return;
         }
 
-        int totalRemoved = 0;
+        int budget = AuroralConfig.SERVER.bloomCleanupBudget.get();
+        Long2ObjectMap<ParticleBurst> bursts = new Long2ObjectOpenHashMap<>();
+        int removed = 0;
 
-        for (BlockPos pos : blooms) {
-            // Skip if chunk isn't loaded
+        for (int processed = 0; processed < budget && ledger.hasQueuedRemovals(); processed++) {
+            BlockPos pos = BlockPos.of(ledger.pollQueuedRemoval());
+
+            // Chunk unloaded while queued - defer until it loads again
             if (!level.isLoaded(pos)) {
+                ledger.deferRemoval(ChunkPos.asLong(pos), LongSet.of(pos.asLong()));
                 continue;
             }
 
             BlockState state = level.getBlockState(pos);
             if (state.is(ModBlocks.AURORA_BLOOM.get())) {
-                // Remove the bloom with particles
-                level.destroyBlock(pos, false);
-                level.sendParticles(ParticleTypes.END_ROD,
-                    pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                    5, 0.3, 0.3, 0.3, 0.05);
-                totalRemoved++;
+                level.removeBlock(pos, false);
+                bursts.computeIfAbsent(SectionPos.asLong(pos), k -> new ParticleBurst()).add(pos);
+                removed++;
             }
         }
 
-        if (totalRemoved > 0) {
-            Auroral.LOGGER.debug("Removed {} aurora blooms at sunrise", totalRemoved);
+        for (ParticleBurst burst : bursts.values()) {
+            burst.send(level);
+        }
+
+        level.setData(ModDataAttachments.BLOOM_LEDGER, ledger);
+
+        if (removed > 0) {
+            Auroral.LOGGER.debug("Removed {} aurora blooms this tick, {} still queued",
+                removed, ledger.queuedRemovalCount());
+        }
+    }
+
+    /**
+     * Accumulates bloom removals within one chunk section into a single particle burst.
+     */
+    private static final class ParticleBurst {
+        private int count;
+        private double sumX;
+        private double sumY;
+        private double sumZ;
+
+        void add(BlockPos pos) {
+            count++;
+            sumX += pos.getX() + 0.5;
+            sumY += pos.getY() + 0.5;
+            sumZ += pos.getZ() + 0.5;
+        }
+
+        void send(ServerLevel level) {
+            // Spread grows with the number of blooms, up to a chunk section
+            double spread = Math.min(0.3 + count * 0.5, 8.0);
+            level.sendParticles(ParticleTypes.END_ROD,
+                sumX / count, sumY / count, sumZ / count,
+                Math.min(count * 5, 60), spread, 0.3, spread, 0.05);
+        }
+    }
+
+    /**
+     * Queues cleanup for chunks with deferred bloom removals as they load.
+     * The blocks themselves are removed on the next level tick, not during chunk loading.
+     */
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !level.hasData(ModDataAttachments.BLOOM_LEDGER)) {
+            return;
+        }
+
+        BloomLedger ledger = getBloomLedger(level);
+        long chunkKey = event.getChunk().getPos().toLong();
+        if (ledger.hasPendingRemovals(chunkKey)) {
+            ledger.markChunkLoaded(chunkKey);
+            scheduleBloomCleanup(level);
         }
     }
 
     /**
-     * Forces an aurora to start (e.g., from Hearthwood Log + Aurora Shard).
+     * Forces an aurora to start in the region containing {@code pos} (e.g., from Hearthwood Log + Aurora Shard).
      * Can be called from other parts of the mod.
      */
-    public static void forceStartAurora(ServerLevel level) {
+    public static void forceStartAurora(ServerLevel level, BlockPos pos) {
         if (!BiomeHelper.dimensionSupportsAurora(level)) {
             return;
         }
@@ -455,11 +959,11 @@ public class AuroraEventHandler {
             return;
         }
 
-        AuroraState currentState = AuroraHelper.getAuroraState(level);
-        if (currentState.active()) {
+        long cell = AuroraRegions.cellKey(pos);
+        if (AuroraSnapshot.get(level).get(cell).active()) {
             return;
         }
 
-        startAurora(level, level.getGameTime(), level.getRandom());
+        startAurora(level, cell, level.getRandom());
     }
 }
@@ -0,0 +1,23 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import net.minecraft.server.level.ServerLevel;
+
+/**
+ * Posted for each region with an active aurora on every aurora spawn pulse (every 5 seconds).
+ */
+public class AuroraPulseEvent extends AuroraEvent {
+    private final long gameTime;
+
+    public AuroraPulseEvent(ServerLevel level, long cell, AuroraState state, long gameTime) {
+        super(level, cell, state);
+        this.gameTime = gameTime;
+    }
+
+    /**
+     * Gets the game time of the pulse.
+     */
+    public long getGameTime() {
+        return gameTime;
+    }
+}
@@ -0,0 +1,15 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.ICancellableEvent;
+
+/**
+ * Posted before an aurora starts in a region. Cancel it to keep the region clear.
+ */
+public class AuroraStartEvent extends AuroraEvent implements ICancellableEvent {
+
+    public AuroraStartEvent(ServerLevel level, long cell, AuroraState state) {
+        super(level, cell, state);
+    }
+}
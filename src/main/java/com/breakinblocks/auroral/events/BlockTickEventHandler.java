@@ -0,0 +1,40 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.util.BlockEntityWakeQueue;
+import com.breakinblocks.auroral.util.BrewMixCache;
+import com.breakinblocks.auroral.util.PendingBlockTicks;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Drains deferred block work once per level tick:
+ * - Scheduled-tick checks for blocks that loaded without their tick
+ * - Wake-ups for dormant block entities
+ *
+ * @see PendingBlockTicks
+ * @see BlockEntityWakeQueue
+ */
+@EventBusSubscriber(modid = Auroral.MOD_ID)
+public class BlockTickEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            PendingBlockTicks.drain(level);
+            BlockEntityWakeQueue.drain(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            PendingBlockTicks.clear(level);
+            BlockEntityWakeQueue.clear(level);
+            BrewMixCache.clear(level);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.inventory.ColdBrewingStandItemHandler;
+import com.breakinblocks.auroral.inventory.GlacialBasinItemHandler;
+import com.breakinblocks.auroral.registry.ModBlockEntities;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
+
+/**
+ * Registers block entity capabilities (item handlers for automation).
+ * This class registers events on the MOD bus through manual registration.
+ */
+public class CapabilityEventHandler {
+
+    /**
+     * Register capability event handlers on the mod event bus.
+     * Call this from the main mod constructor.
+     */
+    public static void register(IEventBus modEventBus) {
+        modEventBus.addListener(CapabilityEventHandler::onRegisterCapabilities);
+    }
+
+    /**
+     * Exposes sided item handlers so hoppers and pipes can move whole stacks.
+     */
+    public static void onRegisterCapabilities(RegisterCapabilitiesEvent event) {
+        event.registerBlockEntity(
+            Capabilities.ItemHandler.BLOCK,
+            ModBlockEntities.COLD_BREWING_STAND.get(),
+            ColdBrewingStandItemHandler::new
+        );
+        event.registerBlockEntity(
+            Capabilities.ItemHandler.BLOCK,
+            ModBlockEntities.GLACIAL_BASIN.get(),
+            (basin, side) -> new GlacialBasinItemHandler(basin)
+        );
+    }
+}
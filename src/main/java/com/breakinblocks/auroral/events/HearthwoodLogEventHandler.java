@@ -1,29 +1,30 @@
 package com.breakinblocks.auroral.events;
 
 import com.breakinblocks.auroral.Auroral;
-import com.breakinblocks.auroral.block.HearthwoodLogBlock;
 import com.breakinblocks.auroral.block.HearthwoodLogBlockEntity;
-import com.breakinblocks.auroral.registry.ModBlocks;
 import com.breakinblocks.auroral.registry.ModEffects;
+import com.breakinblocks.auroral.util.BiomeHelper;
+import com.breakinblocks.auroral.util.HearthwoodLogIndex;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.npc.villager.Villager;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.living.MobEffectEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
 /**
  * Event handler for Hearthwood Log special effects.
  * Handles:
  * - Frostbite immunity (prevents Frostbite from being applied)
  * - Villager discounts near lit Hearthwood Logs
+ * - Warmth for players in cold biomes near lit Hearthwood Logs (the logs themselves don't tick)
  */
 @EventBusSubscriber(modid = Auroral.MOD_ID)
 public class HearthwoodLogEventHandler {
@@ -38,6 +39,50 @@ public class HearthwoodLogEventHandler {
      */
     public static final float HEARTHWOOD_LOG_DISCOUNT = 0.8f;
 
+    /**
+     * How often to apply warmth effects (every 2 seconds).
+     */
+    private static final int EFFECT_INTERVAL = 40;
+
+    /**
+     * Duration of the immunity effect (3 seconds, refreshed every 2).
+     */
+    private static final int EFFECT_DURATION = 60;
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+
+        if (level.getGameTime() % EFFECT_INTERVAL == 0) {
+            applyWarmthToPlayers(level);
+        }
+    }
+
+    /**
+     * Grants Frostbite immunity to players in cold biomes near a lit Hearthwood Log.
+     * Each player asks the lit-log index once, so the cost scales with players rather than
+     * logs and overlapping logs don't reapply the same effect.
+     */
+    private static void applyWarmthToPlayers(ServerLevel level) {
+        for (ServerPlayer player : level.players()) {
+            BlockPos pos = player.blockPosition();
+            if (!BiomeHelper.isColdBiome(level, pos) || !isNearLitHearthwoodLog(level, pos, HearthwoodLogBlockEntity.EFFECT_RADIUS)) {
+                continue;
+            }
+
+            player.addEffect(new MobEffectInstance(
+                ModEffects.FROSTBITE_IMMUNITY,
+                EFFECT_DURATION,
+                0,
+                true,  // ambient
+                false, // visible
+                true   // show icon
+            ));
+        }
+    }
+
     /**
      * Prevents Frostbite from being applied when the entity has Frostbite Immunity.
      */
@@ -57,46 +102,17 @@ public class HearthwoodLogEventHandler {
 
     /**
      * Checks if a position is near a lit Hearthwood Log.
+     * Backed by {@link HearthwoodLogIndex}, so only chunks overlapping the radius are visited.
      */
     public static boolean isNearLitHearthwoodLog(Level level, BlockPos center, double radius) {
-        int radiusInt = (int) Math.ceil(radius);
-
-        for (BlockPos pos : BlockPos.betweenClosed(
-            center.offset(-radiusInt, -radiusInt, -radiusInt),
-            center.offset(radiusInt, radiusInt, radiusInt))) {
-
-            BlockState state = level.getBlockState(pos);
-            if (state.is(ModBlocks.HEARTHWOOD_LOG.get()) && state.getValue(HearthwoodLogBlock.LIT)) {
-                // Check distance
-                double distSq = center.distSqr(pos);
-                if (distSq <= radius * radius) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return HearthwoodLogIndex.anyWithin(level, center, radius);
     }
 
     /**
      * Gets the number of lit Hearthwood Logs near a position.
      */
     public static int countNearbyLitHearthwoodLogs(Level level, BlockPos center, double radius) {
-        int count = 0;
-        int radiusInt = (int) Math.ceil(radius);
-
-        for (BlockPos pos : BlockPos.betweenClosed(
-            center.offset(-radiusInt, -radiusInt, -radiusInt),
-            center.offset(radiusInt, radiusInt, radiusInt))) {
-
-            BlockState state = level.getBlockState(pos);
-            if (state.is(ModBlocks.HEARTHWOOD_LOG.get()) && state.getValue(HearthwoodLogBlock.LIT)) {
-                double distSq = center.distSqr(pos);
-                if (distSq <= radius * radius) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return HearthwoodLogIndex.countWithin(level, center, radius);
     }
 
     /**
@@ -106,4 +122,14 @@ public class HearthwoodLogEventHandler {
     public static boolean villagerHasHearthwoodLogDiscount(Villager villager) {
         return isNearLitHearthwoodLog(villager.level(), villager.blockPosition(), VILLAGER_DISCOUNT_RADIUS);
     }
+
+    /**
+     * Drops the lit-log index for a level when it unloads.
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            HearthwoodLogIndex.clear(level);
+        }
+    }
 }
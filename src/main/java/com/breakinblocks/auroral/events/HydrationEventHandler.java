@@ -0,0 +1,46 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.util.HydrationIndex;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Keeps the Shimmer Soil hydration-source index in step with the world.
+ *
+ * @see HydrationIndex
+ */
+@EventBusSubscriber(modid = Auroral.MOD_ID)
+public class HydrationEventHandler {
+
+    /**
+     * Adds or removes a changed block from the index of its section.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            HydrationIndex.onBlockChanged(level, event.getPos(), event.getState());
+        }
+    }
+
+    /**
+     * Drops indexed sections for chunks that unload; they are re-indexed on next use.
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            HydrationIndex.invalidateChunk(level, event.getChunk().getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            HydrationIndex.clear(level);
+        }
+    }
+}
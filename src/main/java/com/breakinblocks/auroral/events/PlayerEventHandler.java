@@ -4,8 +4,14 @@ import com.breakinblocks.auroral.Auroral;
 import com.breakinblocks.auroral.config.AuroralConfig;
 import com.breakinblocks.auroral.net.AuroralNetworking;
 import com.breakinblocks.auroral.registry.ModBlocks;
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
 import com.breakinblocks.auroral.registry.ModTags;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraListeners;
+import com.breakinblocks.auroral.util.AuroraRegions;
+import com.breakinblocks.auroral.util.BiomeHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -13,8 +19,14 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles player-related events.
@@ -22,6 +34,9 @@ import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 @EventBusSubscriber(modid = Auroral.MOD_ID)
 public class PlayerEventHandler {
 
+    // Player UUID -> listener for aurora transitions in the region the player is in
+    private static final Map<UUID, RegionAurora> regionAuroraByPlayer = new ConcurrentHashMap<>();
+
     /**
      * Sync aurora state when a player logs in.
      */
@@ -29,7 +44,7 @@ public class PlayerEventHandler {
     public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
             // Sync aurora state to the joining player
-            AuroralNetworking.syncAuroraToPlayer(player);
+            syncAurora(player);
         }
     }
 
@@ -40,7 +55,7 @@ public class PlayerEventHandler {
     public static void onPlayerChangeDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
             // Sync aurora state for the new dimension
-            AuroralNetworking.syncAuroraToPlayer(player);
+            syncAurora(player);
         }
     }
 
@@ -50,7 +65,43 @@ public class PlayerEventHandler {
     @SubscribeEvent
     public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
-            AuroralNetworking.syncAuroraToPlayer(player);
+            syncAurora(player);
+        }
+    }
+
+    /**
+     * Sync aurora state when a player crosses into another aurora region.
+     */
+    @SubscribeEvent
+    public static void onPlayerEnteringSection(EntityEvent.EnteringSection event) {
+        if (!event.didChunkChange() || !(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+
+        long oldCell = AuroraRegions.cellKeyForChunk(event.getOldPos().chunk().toLong());
+        long newCell = AuroraRegions.cellKeyForChunk(event.getNewPos().chunk().toLong());
+        if (oldCell != newCell) {
+            syncAurora(player);
+        }
+    }
+
+    /**
+     * Sends the player the aurora state of the region they're in, first carrying over a
+     * level-wide aurora saved before auroras became regional.
+     */
+    private static void syncAurora(ServerPlayer player) {
+        ServerLevel level = (ServerLevel) player.level();
+        AuroraEventHandler.migrateLegacyAurora(level, player.blockPosition());
+        regionAuroraByPlayer.computeIfAbsent(player.getUUID(), uuid -> new RegionAurora())
+            .moveTo(level, player.blockPosition());
+        AuroralNetworking.syncAuroraToPlayer(player);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        RegionAurora regionAurora = regionAuroraByPlayer.remove(event.getEntity().getUUID());
+        if (regionAurora != null) {
+            regionAurora.release();
         }
     }
 
@@ -73,12 +124,20 @@ public class PlayerEventHandler {
             player.removeEffect(MobEffects.DARKNESS);
         }
 
-        // Aurora self-repair - once per second during aurora
-        if (player.tickCount % 20 == 0 && AuroraHelper.isExperiencingAurora(player.level(), player.blockPosition())) {
+        // Aurora self-repair - once per second during aurora. Whether the player's region has an
+        // aurora comes from its start/end transitions; only the biome is checked here, as it
+        // changes with every step.
+        if (player.tickCount % 20 == 0 && isInAuroraRegion(player)
+            && BiomeHelper.canExperienceAurora(player.level(), player.blockPosition())) {
             repairAuroraGear(player);
         }
     }
 
+    private static boolean isInAuroraRegion(Player player) {
+        RegionAurora regionAurora = regionAuroraByPlayer.get(player.getUUID());
+        return regionAurora != null && regionAurora.active;
+    }
+
     /**
      * Repairs Shimmersteel tools and Shimmerweave armor during aurora events.
      */
@@ -124,4 +183,45 @@ public class PlayerEventHandler {
             stack.setDamageValue(Math.max(0, damage - repairAmount));
         }
     }
+
+    /**
+     * Tracks whether the region a player is in has an active aurora, re-registering with
+     * {@link AuroraListeners} whenever the player moves to another region or dimension.
+     */
+    private static final class RegionAurora implements AuroraListeners.AuroraListener {
+        @Nullable
+        ServerLevel level;
+        long cell;
+        boolean active;
+
+        void moveTo(ServerLevel newLevel, BlockPos pos) {
+            long newCell = AuroraRegions.cellKey(pos);
+            if (newLevel == level && newCell == cell) {
+                return;
+            }
+
+            release();
+            level = newLevel;
+            cell = newCell;
+            AuroraListeners.register(newLevel, newCell, this);
+            active = AuroraHelper.getAuroraSnapshot(newLevel).get(newCell).active();
+        }
+
+        void release() {
+            if (level != null) {
+                AuroraListeners.unregister(level, cell, this);
+                level = null;
+            }
+        }
+
+        @Override
+        public void onAuroraStart(ServerLevel level, AuroraState state) {
+            active = true;
+        }
+
+        @Override
+        public void onAuroraEnd(ServerLevel level, AuroraState state) {
+            active = false;
+        }
+    }
 }
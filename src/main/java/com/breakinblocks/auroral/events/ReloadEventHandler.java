@@ -0,0 +1,40 @@
+package com.breakinblocks.auroral.events;
+
+import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.registry.ModRecipes;
+import com.breakinblocks.auroral.util.BiomeHelper;
+import com.breakinblocks.auroral.util.BlockStateFlags;
+import com.breakinblocks.auroral.util.BrewMixCache;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+/**
+ * Rebuilds cached lookup tables when registries and tags (re)load.
+ */
+@EventBusSubscriber(modid = Auroral.MOD_ID)
+public class ReloadEventHandler {
+
+    /**
+     * Tags are bound on server data load and again on the client when it receives them.
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        boolean clientSide = event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED;
+        BiomeHelper.rebuildColdBiomeTable(event.getLookupProvider(), clientSide);
+        BlockStateFlags.rebuild();
+        if (!clientSide) {
+            // Brewing ingredients can be tag-based
+            BrewMixCache.clearAll();
+        }
+    }
+
+    /**
+     * Recipes aren't synced to clients by default; send Basin Infusions so recipe viewers can index them.
+     */
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event) {
+        event.sendRecipes(ModRecipes.BASIN_INFUSION.get());
+    }
+}
@@ -6,15 +6,13 @@ import com.breakinblocks.auroral.item.ShimmerweaveGogglesItem;
 import com.breakinblocks.auroral.item.ShimmerweaveLeggingsItem;
 import com.breakinblocks.auroral.item.ShimmerweaveSkatesItem;
 import com.breakinblocks.auroral.item.ShimmerweaveTunicItem;
+import com.breakinblocks.auroral.util.BlockStateFlags;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
-import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.tags.BlockTags;
-import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.MobCategory;
@@ -25,7 +23,6 @@ import net.minecraft.world.entity.player.Input;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockState;
@@ -33,11 +30,26 @@ import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.neoforged.neoforge.event.entity.living.LivingFallEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies Shimmerweave armor effects.
+ *
+ * Which pieces a player wears is tracked from equipment change events, so players without
+ * Shimmerweave cost a single map lookup per tick. Surface-dependent speed modifiers are only
+ * re-evaluated when the wearer's block position or on-ground state changes.
+ */
 @EventBusSubscriber(modid = Auroral.MOD_ID)
 public class ShimmerweaveEventHandler {
 
@@ -46,6 +58,43 @@ public class ShimmerweaveEventHandler {
     private static final Identifier SKATES_ICE_SPEED_ID = Auroral.id("shimmerweave_skates_ice_speed");
     private static final Identifier SKATES_PACKED_ICE_SPEED_ID = Auroral.id("shimmerweave_skates_packed_ice_speed");
 
+    /**
+     * Ticks between goggle sweeps for hostiles.
+     */
+    private static final int GOGGLES_INTERVAL = 20;
+
+    /**
+     * Glowing is only reapplied once fewer ticks than this remain, so it can't lapse before the next sweep.
+     */
+    private static final int GLOWING_REFRESH_THRESHOLD = GOGGLES_INTERVAL + 5;
+
+    // Player UUID -> Shimmerweave pieces worn, only for players wearing at least one
+    private static final Map<UUID, WornShimmerweave> wornByPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * Shimmerweave pieces a player wears, and the surface their speed modifiers were last evaluated on.
+     */
+    private static final class WornShimmerweave {
+        boolean goggles;
+        boolean tunic;
+        boolean leggings;
+        boolean skates;
+
+        long surfacePos = Long.MAX_VALUE;
+        boolean onGround;
+
+        void update(Player player) {
+            goggles = player.getItemBySlot(EquipmentSlot.HEAD).getItem() instanceof ShimmerweaveGogglesItem;
+            tunic = player.getItemBySlot(EquipmentSlot.CHEST).getItem() instanceof ShimmerweaveTunicItem;
+            leggings = player.getItemBySlot(EquipmentSlot.LEGS).getItem() instanceof ShimmerweaveLeggingsItem;
+            skates = player.getItemBySlot(EquipmentSlot.FEET).getItem() instanceof ShimmerweaveSkatesItem;
+        }
+
+        boolean any() {
+            return goggles || tunic || leggings || skates;
+        }
+    }
+
     private static double getSnowSpeedBoost() {
         return AuroralConfig.SERVER.leggingsSnowSpeedBoost.get();
     }
@@ -63,78 +112,171 @@ public class ShimmerweaveEventHandler {
     }
 
     @SubscribeEvent
-    public static void onPlayerTick(PlayerTickEvent.Post event) {
-        Player player = event.getEntity();
-        Level level = player.level();
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level && level.getGameTime() % GOGGLES_INTERVAL == 0) {
+            revealHostiles(level);
+        }
+    }
 
-        if (level.isClientSide()) {
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer player) || !event.getSlot().isArmor()) {
             return;
         }
 
-        // Check each armor piece and apply effects
-        handleGoggles(player, (ServerLevel) level);
-        handleTunic(player);
-        handleLeggings(player);
-        handleSkates(player, (ServerLevel) level);
+        WornShimmerweave worn = wornByPlayer.computeIfAbsent(player.getUUID(), uuid -> new WornShimmerweave());
+        worn.update(player);
+
+        // Apply or strip the surface modifiers for the new equipment right away
+        ServerLevel level = (ServerLevel) player.level();
+        worn.surfacePos = player.blockPosition().asLong();
+        worn.onGround = player.onGround();
+        handleLeggings(player, worn.leggings);
+        handleSkates(player, level, worn.skates);
+
+        if (!worn.any()) {
+            wornByPlayer.remove(player.getUUID());
+        }
     }
 
-    private static void handleGoggles(Player player, ServerLevel level) {
-        ItemStack helmet = player.getItemBySlot(EquipmentSlot.HEAD);
-        if (!(helmet.getItem() instanceof ShimmerweaveGogglesItem)) {
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        // The new player entity reports its equipment again on its first tick
+        wornByPlayer.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        wornByPlayer.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTick(PlayerTickEvent.Post event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
             return;
         }
 
-        if (player.tickCount % 20 != 0) {
+        WornShimmerweave worn = wornByPlayer.get(player.getUUID());
+        if (worn == null) {
             return;
         }
 
+        // Goggles are handled per level, see onLevelTick
+        if (worn.tunic) {
+            handleTunic(player);
+        }
+
+        if (worn.leggings || worn.skates) {
+            long surfacePos = player.blockPosition().asLong();
+            boolean onGround = player.onGround();
+            if (surfacePos != worn.surfacePos || onGround != worn.onGround) {
+                worn.surfacePos = surfacePos;
+                worn.onGround = onGround;
+                handleLeggings(player, worn.leggings);
+                handleSkates(player, (ServerLevel) player.level(), worn.skates);
+            }
+        }
+    }
+
+    /**
+     * Once per interval, makes hostiles near any goggle wearer in the level glow.
+     * Wearers share sweeps: search boxes are merged whenever their hull is no bigger than the
+     * boxes themselves, so a crowded area is searched once without sweeping empty space
+     * between distant wearers. Each hostile is handled once however many wearers can see it.
+     */
+    private static void revealHostiles(ServerLevel level) {
         double radius = AuroralConfig.SERVER.gogglesGlowingRadius.get();
-        AABB searchBox = player.getBoundingBox().inflate(radius);
-
-        List<LivingEntity> hostiles = level.getEntitiesOfClass(LivingEntity.class, searchBox, entity -> {
-            if (entity == player) return false;
-            return entity.getType().getCategory() == MobCategory.MONSTER;
-        });
-
-        try {
-            ResourceKey<MobEffect> glowingKey = ResourceKey.create(
-                Registries.MOB_EFFECT,
-                Identifier.withDefaultNamespace("glowing")
-            );
-            Holder<MobEffect> glowingHolder = level.registryAccess()
-                .lookupOrThrow(Registries.MOB_EFFECT)
-                .getOrThrow(glowingKey);
+        List<AABB> wearerBoxes = new ArrayList<>();
+        for (ServerPlayer player : level.players()) {
+            WornShimmerweave worn = wornByPlayer.get(player.getUUID());
+            if (worn != null && worn.goggles) {
+                wearerBoxes.add(player.getBoundingBox().inflate(radius));
+            }
+        }
+        if (wearerBoxes.isEmpty()) {
+            return;
+        }
+
+        Set<LivingEntity> seen = new ReferenceOpenHashSet<>();
+        for (AABB sweep : mergeCompact(wearerBoxes)) {
+            List<LivingEntity> hostiles = level.getEntitiesOfClass(LivingEntity.class, sweep,
+                entity -> entity.getType().getCategory() == MobCategory.MONSTER);
 
             for (LivingEntity hostile : hostiles) {
-                hostile.addEffect(new MobEffectInstance(
-                    glowingHolder,
-                    ShimmerweaveGogglesItem.GLOWING_DURATION,
-                    0,
-                    false,
-                    false,
-                    true
-                ));
+                // A merged sweep may reach a little past every wearer's own range
+                if (seen.add(hostile) && isInAny(hostile, wearerBoxes)) {
+                    refreshGlowing(hostile);
+                }
             }
-        } catch (Exception e) {
         }
     }
 
-    private static void handleTunic(Player player) {
-        ItemStack chestplate = player.getItemBySlot(EquipmentSlot.CHEST);
-        if (!(chestplate.getItem() instanceof ShimmerweaveTunicItem)) {
+    /**
+     * Merges boxes into their hull wherever the hull is no larger than the combined volume
+     * of the boxes it replaces, until no such pair is left.
+     */
+    private static List<AABB> mergeCompact(List<AABB> boxes) {
+        List<AABB> merged = new ArrayList<>(boxes);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            outer:
+            for (int i = 0; i < merged.size(); i++) {
+                for (int j = i + 1; j < merged.size(); j++) {
+                    AABB hull = merged.get(i).minmax(merged.get(j));
+                    if (volume(hull) <= volume(merged.get(i)) + volume(merged.get(j))) {
+                        merged.set(i, hull);
+                        merged.remove(j);
+                        changed = true;
+                        break outer;
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static double volume(AABB box) {
+        return box.getXsize() * box.getYsize() * box.getZsize();
+    }
+
+    private static boolean isInAny(LivingEntity entity, List<AABB> boxes) {
+        AABB bounds = entity.getBoundingBox();
+        for (AABB box : boxes) {
+            if (box.intersects(bounds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies glowing, unless the entity still has enough of it to last until the next sweep.
+     */
+    private static void refreshGlowing(LivingEntity hostile) {
+        MobEffectInstance glowing = hostile.getEffect(MobEffects.GLOWING);
+        if (glowing != null && (glowing.isInfiniteDuration() || glowing.getDuration() > GLOWING_REFRESH_THRESHOLD)) {
             return;
         }
 
+        hostile.addEffect(new MobEffectInstance(
+            MobEffects.GLOWING,
+            ShimmerweaveGogglesItem.GLOWING_DURATION,
+            0,
+            false,
+            false,
+            true
+        ));
+    }
+
+    private static void handleTunic(Player player) {
         if (player.isOnFire()) {
             player.clearFire();
-            chestplate.hurtAndBreak(1, player, EquipmentSlot.CHEST);
+            player.getItemBySlot(EquipmentSlot.CHEST).hurtAndBreak(1, player, EquipmentSlot.CHEST);
         }
     }
 
-    private static void handleLeggings(Player player) {
-        ItemStack leggings = player.getItemBySlot(EquipmentSlot.LEGS);
-        boolean hasLeggings = leggings.getItem() instanceof ShimmerweaveLeggingsItem;
-
+    private static void handleLeggings(Player player, boolean hasLeggings) {
         AttributeInstance speedAttribute = player.getAttribute(Attributes.MOVEMENT_SPEED);
         if (speedAttribute == null) return;
 
@@ -144,10 +286,10 @@ public class ShimmerweaveEventHandler {
         BlockState belowState = player.level().getBlockState(belowPos);
 
         boolean onSnow = hasLeggings && (
-            playerState.is(BlockTags.SNOW) || playerState.is(Blocks.POWDER_SNOW) ||
-            belowState.is(BlockTags.SNOW) || belowState.is(Blocks.SNOW_BLOCK) || belowState.is(Blocks.POWDER_SNOW));
+            BlockStateFlags.has(playerState, BlockStateFlags.SNOW_TAG | BlockStateFlags.SOLID_SNOW) ||
+            BlockStateFlags.has(belowState, BlockStateFlags.SNOW_TAG | BlockStateFlags.SOLID_SNOW));
 
-        boolean onSoul = hasLeggings && (belowState.is(Blocks.SOUL_SAND) || belowState.is(Blocks.SOUL_SOIL));
+        boolean onSoul = hasLeggings && BlockStateFlags.has(belowState, BlockStateFlags.SOUL_BLOCK);
 
         AttributeModifier snowModifier = speedAttribute.getModifier(LEGGINGS_SNOW_SPEED_ID);
         if (onSnow && snowModifier == null) {
@@ -177,10 +319,7 @@ public class ShimmerweaveEventHandler {
         }
     }
 
-    private static void handleSkates(Player player, ServerLevel level) {
-        ItemStack boots = player.getItemBySlot(EquipmentSlot.FEET);
-        boolean hasSkates = boots.getItem() instanceof ShimmerweaveSkatesItem;
-
+    private static void handleSkates(Player player, ServerLevel level, boolean hasSkates) {
         AttributeInstance speedAttribute = player.getAttribute(Attributes.MOVEMENT_SPEED);
         if (speedAttribute == null) return;
 
@@ -188,8 +327,9 @@ public class ShimmerweaveEventHandler {
         BlockPos belowPos = playerPos.below();
         BlockState belowState = level.getBlockState(belowPos);
 
-        boolean onPackedIce = hasSkates && (belowState.is(Blocks.PACKED_ICE) || belowState.is(Blocks.BLUE_ICE));
-        boolean onRegularIce = hasSkates && !onPackedIce && belowState.is(BlockTags.ICE);
+        int belowFlags = BlockStateFlags.get(belowState);
+        boolean onPackedIce = hasSkates && (belowFlags & BlockStateFlags.PACKED_ICE) != 0;
+        boolean onRegularIce = hasSkates && !onPackedIce && (belowFlags & BlockStateFlags.ICE_TAG) != 0;
 
         AttributeModifier packedIceModifier = speedAttribute.getModifier(SKATES_PACKED_ICE_SPEED_ID);
         if (onPackedIce && packedIceModifier == null) {
@@ -223,6 +363,7 @@ public class ShimmerweaveEventHandler {
             return;
         }
 
+        ItemStack boots = player.getItemBySlot(EquipmentSlot.FEET);
         int radius = AuroralConfig.SERVER.skatesFrostWalkerRadius.get();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 
@@ -263,8 +404,7 @@ public class ShimmerweaveEventHandler {
         BlockPos landingPos = player.blockPosition().below();
         BlockState landingState = player.level().getBlockState(landingPos);
 
-        if (landingState.is(BlockTags.ICE) || landingState.is(Blocks.OBSIDIAN) ||
-            landingState.is(Blocks.CRYING_OBSIDIAN)) {
+        if (BlockStateFlags.has(landingState, BlockStateFlags.ICE_TAG | BlockStateFlags.OBSIDIAN)) {
             event.setCanceled(true);
         }
     }
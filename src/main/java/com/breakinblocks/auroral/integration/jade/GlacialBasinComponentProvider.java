@@ -22,7 +22,9 @@ public enum GlacialBasinComponentProvider implements IBlockComponentProvider {
 
     @Override
     public void appendTooltip(ITooltip tooltip, BlockAccessor accessor, IPluginConfig config) {
-        int auraLevel = accessor.getBlockState().getValue(GlacialBasinBlock.AURA_LEVEL);
+        CompoundTag data = accessor.getServerData();
+        int auraLevel = data.getInt("aura_level")
+            .orElseGet(() -> accessor.getBlockState().getValue(GlacialBasinBlock.AURA_LEVEL));
         int maxLevel = GlacialBasinBlock.MAX_AURA_LEVEL;
 
         Component auraText = Component.translatable("block.auroral.glacial_basin.aura_level", auraLevel, maxLevel);
@@ -34,7 +36,6 @@ public enum GlacialBasinComponentProvider implements IBlockComponentProvider {
             tooltip.add(auraText.copy().withStyle(ChatFormatting.GRAY));
         }
 
-        CompoundTag data = accessor.getServerData();
         if (data.contains("aurora_active")) {
             boolean auroraActive = data.getBoolean("aurora_active").orElse(false);
             if (auroraActive) {
@@ -1,6 +1,7 @@
 package com.breakinblocks.auroral.integration.jade;
 
 import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.block.GlacialBasinBlockEntity;
 import com.breakinblocks.auroral.util.AuroraHelper;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.Identifier;
@@ -10,7 +11,7 @@ import snownee.jade.api.IServerDataProvider;
 
 /**
  * Server-side data provider for Glacial Basin.
- * Syncs aurora state to client for tooltip display.
+ * Syncs aurora state and the basin's projected aura level to client for tooltip display.
  */
 public enum GlacialBasinDataProvider implements IServerDataProvider<BlockAccessor> {
     INSTANCE;
@@ -20,7 +21,12 @@ public enum GlacialBasinDataProvider implements IServerDataProvider<BlockAccesso
     @Override
     public void appendServerData(CompoundTag data, BlockAccessor accessor) {
         if (accessor.getLevel() instanceof ServerLevel serverLevel) {
-            data.putBoolean("aurora_active", AuroraHelper.isAuroraActive(serverLevel));
+            // Project lazily collected aura so the tooltip shows the current level without
+            // changing the basin
+            if (accessor.getBlockEntity() instanceof GlacialBasinBlockEntity basin) {
+                data.putInt("aura_level", basin.getProjectedAuraLevel());
+            }
+            data.putBoolean("aurora_active", AuroraHelper.isAuroraActive(serverLevel, accessor.getPosition()));
         }
     }
 
@@ -1,8 +1,9 @@
 package com.breakinblocks.auroral.integration.jei;
 
 import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
 import com.breakinblocks.auroral.registry.ModBlocks;
-import com.breakinblocks.auroral.registry.ModItems;
+import com.breakinblocks.auroral.util.BasinInfusions;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
 import mezz.jei.api.constants.RecipeTypes;
@@ -10,10 +11,8 @@ import mezz.jei.api.registration.IRecipeCatalystRegistration;
 import mezz.jei.api.registration.IRecipeCategoryRegistration;
 import mezz.jei.api.registration.IRecipeRegistration;
 import net.minecraft.resources.Identifier;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.RecipeHolder;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,31 +37,10 @@ public class AuroralJeiPlugin implements IModPlugin {
 
     @Override
     public void registerRecipes(IRecipeRegistration registration) {
-        List<BasinInfusionRecipe> basinRecipes = new ArrayList<>();
-
-        // Unrefined Shimmersteel -> Shimmersteel Ingot
-        basinRecipes.add(new BasinInfusionRecipe(
-            new ItemStack(ModItems.UNREFINED_SHIMMERSTEEL.get()),
-            new ItemStack(ModItems.SHIMMERSTEEL_INGOT.get())
-        ));
-
-        // Woven Leather -> Shimmerweave Fabric
-        basinRecipes.add(new BasinInfusionRecipe(
-            new ItemStack(ModItems.WOVEN_LEATHER.get()),
-            new ItemStack(ModItems.SHIMMERWEAVE_FABRIC.get())
-        ));
-
-        // Frozen Petals -> Aurora Shard
-        basinRecipes.add(new BasinInfusionRecipe(
-            new ItemStack(ModItems.FROZEN_PETALS.get()),
-            new ItemStack(ModItems.AURORA_SHARD.get())
-        ));
-
-        // Ice -> Shimmering Ice
-        basinRecipes.add(new BasinInfusionRecipe(
-            new ItemStack(Items.ICE),
-            new ItemStack(ModBlocks.SHIMMERING_ICE.asItem())
-        ));
+        // Same recipes the Glacial Basin uses, as synced from the server
+        List<BasinInfusionRecipe> basinRecipes = BasinInfusions.clientRecipes().stream()
+            .map(RecipeHolder::value)
+            .toList();
 
         registration.addRecipes(BasinInfusionRecipeCategory.RECIPE_TYPE, basinRecipes);
     }
@@ -1,6 +1,7 @@
 package com.breakinblocks.auroral.integration.jei;
 
 import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
 import com.breakinblocks.auroral.registry.ModBlocks;
 import mezz.jei.api.constants.VanillaTypes;
 import mezz.jei.api.gui.builder.IRecipeLayoutBuilder;
@@ -62,17 +63,18 @@ public class BasinInfusionRecipeCategory implements IRecipeCategory<BasinInfusio
     public void setRecipe(IRecipeLayoutBuilder builder, BasinInfusionRecipe recipe, IFocusGroup focuses) {
         // Input slot (left side)
         builder.addSlot(RecipeIngredientRole.INPUT, 10, 12)
-            .add(recipe.input());
+            .add(recipe.ingredient());
 
         // Basin icon (center) - render only as decoration
         builder.addSlot(RecipeIngredientRole.RENDER_ONLY, 52, 12)
             .add(new ItemStack(ModBlocks.GLACIAL_BASIN.get()))
             .addRichTooltipCallback((recipeSlotView, tooltip) -> {
                 tooltip.add(Component.translatable("auroral.jei.basin_infusion.tooltip"));
+                tooltip.add(Component.translatable("auroral.jei.basin_infusion.aura_cost", recipe.auraCost()));
             });
 
         // Output slot (right side)
         builder.addSlot(RecipeIngredientRole.OUTPUT, 94, 12)
-            .add(recipe.output());
+            .add(recipe.result());
     }
 }
@@ -0,0 +1,31 @@
+package com.breakinblocks.auroral.inventory;
+
+import com.breakinblocks.auroral.block.ColdBrewingStandBlockEntity;
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.items.wrapper.SidedInvWrapper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sided item handler for the Cold Brewing Stand.
+ *
+ * Faces and slot rules come from the stand's {@link net.minecraft.world.WorldlyContainer}
+ * implementation; whole stacks are inserted and extracted in a single operation, so pipes and
+ * hoppers don't have to move items one at a time. Bottle slots are limited to one bottle.
+ */
+public class ColdBrewingStandItemHandler extends SidedInvWrapper {
+
+    private static final int BOTTLE_SLOTS = 3;
+
+    private final ColdBrewingStandBlockEntity stand;
+
+    public ColdBrewingStandItemHandler(ColdBrewingStandBlockEntity stand, @Nullable Direction side) {
+        super(stand, side);
+        this.stand = stand;
+    }
+
+    @Override
+    public int getSlotLimit(int slot) {
+        int containerSlot = getSlot(stand, slot, side);
+        return containerSlot >= 0 && containerSlot < BOTTLE_SLOTS ? 1 : super.getSlotLimit(slot);
+    }
+}
@@ -0,0 +1,63 @@
+package com.breakinblocks.auroral.inventory;
+
+import com.breakinblocks.auroral.block.GlacialBasinBlockEntity;
+import com.breakinblocks.auroral.util.BasinInfusions;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+/**
+ * Item handler for the Glacial Basin, exposed on every face.
+ *
+ * Slot 0 is insert-only: inserted stacks are infused straight away in a single batch,
+ * as many items as the stored aura allows, and the rest is handed back.
+ * Slot 1 is extract-only and holds the infusion results.
+ */
+public class GlacialBasinItemHandler implements IItemHandler {
+
+    private static final int INPUT_SLOT = 0;
+    private static final int OUTPUT_SLOT = 1;
+
+    private final GlacialBasinBlockEntity basin;
+
+    public GlacialBasinItemHandler(GlacialBasinBlockEntity basin) {
+        this.basin = basin;
+    }
+
+    @Override
+    public int getSlots() {
+        return 2;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return slot == OUTPUT_SLOT ? basin.getOutput() : ItemStack.EMPTY;
+    }
+
+    @Override
+    public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+        if (slot != INPUT_SLOT || stack.isEmpty()) {
+            return stack;
+        }
+
+        int infused = basin.infuse(stack, stack.getCount(), simulate);
+        if (infused <= 0) {
+            return stack;
+        }
+        return infused >= stack.getCount() ? ItemStack.EMPTY : stack.copyWithCount(stack.getCount() - infused);
+    }
+
+    @Override
+    public ItemStack extractItem(int slot, int amount, boolean simulate) {
+        return slot == OUTPUT_SLOT ? basin.extractOutput(amount, simulate) : ItemStack.EMPTY;
+    }
+
+    @Override
+    public int getSlotLimit(int slot) {
+        return 64;
+    }
+
+    @Override
+    public boolean isItemValid(int slot, ItemStack stack) {
+        return slot == INPUT_SLOT && basin.getLevel() != null && BasinInfusions.get(basin.getLevel(), stack) != null;
+    }
+}
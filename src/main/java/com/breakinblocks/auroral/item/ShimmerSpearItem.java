@@ -90,7 +90,7 @@ public class ShimmerSpearItem extends Item implements ProjectileItem {
             return false;
         }
 
-        boolean auroraActive = AuroraHelper.isAuroraActive(level);
+        boolean auroraActive = AuroraHelper.isAuroraActive(level, player.blockPosition());
         boolean inColdBiome = level instanceof ServerLevel serverLevel &&
             com.breakinblocks.auroral.util.BiomeHelper.isColdBiome(serverLevel, player.blockPosition());
 
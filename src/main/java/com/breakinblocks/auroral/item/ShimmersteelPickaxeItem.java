@@ -1,14 +1,9 @@
 package com.breakinblocks.auroral.item;
 
-import com.breakinblocks.auroral.registry.ModTags;
-import net.minecraft.tags.BlockTags;
+import com.breakinblocks.auroral.util.BlockStateFlags;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.Set;
-
 /**
  * Shimmersteel Pickaxe with inherent Fortune III for gems only.
  *
@@ -19,25 +14,6 @@ import java.util.Set;
  */
 public class ShimmersteelPickaxeItem extends Item {
 
-    /**
-     * Set of blocks that count as "gems" for the Fortune bonus.
-     */
-    private static final Set<Block> GEM_BLOCKS = Set.of(
-        Blocks.DIAMOND_ORE,
-        Blocks.DEEPSLATE_DIAMOND_ORE,
-        Blocks.EMERALD_ORE,
-        Blocks.DEEPSLATE_EMERALD_ORE,
-        Blocks.LAPIS_ORE,
-        Blocks.DEEPSLATE_LAPIS_ORE,
-        Blocks.REDSTONE_ORE,
-        Blocks.DEEPSLATE_REDSTONE_ORE,
-        Blocks.NETHER_QUARTZ_ORE,
-        Blocks.AMETHYST_CLUSTER,
-        Blocks.LARGE_AMETHYST_BUD,
-        Blocks.MEDIUM_AMETHYST_BUD,
-        Blocks.SMALL_AMETHYST_BUD
-    );
-
     public ShimmersteelPickaxeItem(Properties properties) {
         super(properties.pickaxe(ModToolTiers.SHIMMERSTEEL, 1.0f, -2.8f));
     }
@@ -46,12 +22,8 @@ public class ShimmersteelPickaxeItem extends Item {
      * Checks if a block is a gem-type block that should receive Fortune bonus.
      */
     public static boolean isGemBlock(BlockState state) {
-        // Check hardcoded set first
-        if (GEM_BLOCKS.contains(state.getBlock())) {
-            return true;
-        }
-        // Also check the tag for modded gems
-        return state.is(ModTags.Blocks.GEM_ORES);
+        // Built-in gems plus the tag for modded gems, precomputed per block state
+        return BlockStateFlags.has(state, BlockStateFlags.GEM);
     }
 
     /**
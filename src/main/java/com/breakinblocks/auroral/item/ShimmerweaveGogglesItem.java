@@ -20,9 +20,9 @@ public class ShimmerweaveGogglesItem extends Item {
     public static final double GLOWING_RADIUS = 32.0;
 
     /**
-     * Duration of glowing effect in ticks (refreshed every tick while wearing).
+     * Duration of glowing effect in ticks (refreshed about every other second while in range).
      */
-    public static final int GLOWING_DURATION = 40; // 2 seconds, refreshed continuously
+    public static final int GLOWING_DURATION = 60; // 3 seconds
 
     public ShimmerweaveGogglesItem(Properties properties) {
         super(properties);
@@ -2,6 +2,7 @@ package com.breakinblocks.auroral.net;
 
 import com.breakinblocks.auroral.Auroral;
 import com.breakinblocks.auroral.util.AuroraHelper;
+import com.breakinblocks.auroral.util.AuroraRegions;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.bus.api.IEventBus;
@@ -36,27 +37,30 @@ public class AuroralNetworking {
     }
 
     /**
-     * Syncs aurora state to all players in the given level.
+     * Syncs a region's aurora state to the players currently inside that region.
      *
      * @param level The server level
-     * @param active Whether aurora is active
+     * @param cell The packed region cell
+     * @param active Whether aurora is active in the region
      */
-    public static void syncAuroraToAll(ServerLevel level, boolean active) {
+    public static void syncAuroraToRegion(ServerLevel level, long cell, boolean active) {
         SyncAuroraPayload payload = new SyncAuroraPayload(active);
         for (ServerPlayer player : level.players()) {
-            PacketDistributor.sendToPlayer(player, payload);
+            if (AuroraRegions.cellKey(player.blockPosition()) == cell) {
+                PacketDistributor.sendToPlayer(player, payload);
+            }
         }
     }
 
     /**
-     * Syncs aurora state to a specific player.
-     * Called when a player joins or changes dimension.
+     * Syncs the aurora state of a player's current region to that player.
+     * Called when a player joins, changes dimension or crosses into another region.
      *
      * @param player The player to sync to
      */
     public static void syncAuroraToPlayer(ServerPlayer player) {
         if (player.level() instanceof ServerLevel serverLevel) {
-            boolean active = AuroraHelper.isAuroraActive(serverLevel);
+            boolean active = AuroraHelper.isAuroraActive(serverLevel, player.blockPosition());
             PacketDistributor.sendToPlayer(player, new SyncAuroraPayload(active));
         }
     }
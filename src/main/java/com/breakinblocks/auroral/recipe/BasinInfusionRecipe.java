@@ -0,0 +1,108 @@
+package com.breakinblocks.auroral.recipe;
+
+import com.breakinblocks.auroral.block.GlacialBasinBlock;
+import com.breakinblocks.auroral.registry.ModRecipes;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.PlacementInfo;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeBookCategories;
+import net.minecraft.world.item.crafting.RecipeBookCategory;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
+import net.minecraft.world.level.Level;
+
+/**
+ * Glacial Basin infusion: one input item is turned into a result by spending Liquid Aura.
+ * Loaded from {@code data/<namespace>/recipe} with type {@code auroral:basin_infusion}:
+ *
+ * <pre>{@code
+ * {
+ *   "type": "auroral:basin_infusion",
+ *   "ingredient": "minecraft:ice",
+ *   "result": { "id": "auroral:shimmering_ice" },
+ *   "aura_cost": 1
+ * }
+ * }</pre>
+ *
+ * @param ingredient The item infused
+ * @param result The item produced; copied each time an infusion happens
+ * @param auraCost Aura levels consumed (1 to {@link GlacialBasinBlock#MAX_AURA_LEVEL})
+ */
+public record BasinInfusionRecipe(Ingredient ingredient, ItemStack result, int auraCost) implements Recipe<SingleRecipeInput> {
+
+    public static final MapCodec<BasinInfusionRecipe> CODEC = RecordCodecBuilder.mapCodec(instance ->
+        instance.group(
+            Ingredient.CODEC.fieldOf("ingredient").forGetter(BasinInfusionRecipe::ingredient),
+            ItemStack.STRICT_CODEC.fieldOf("result").forGetter(BasinInfusionRecipe::result),
+            Codec.intRange(1, GlacialBasinBlock.MAX_AURA_LEVEL).fieldOf("aura_cost").forGetter(BasinInfusionRecipe::auraCost)
+        ).apply(instance, BasinInfusionRecipe::new)
+    );
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, BasinInfusionRecipe> STREAM_CODEC = StreamCodec.composite(
+        Ingredient.CONTENTS_STREAM_CODEC, BasinInfusionRecipe::ingredient,
+        ItemStack.STREAM_CODEC, BasinInfusionRecipe::result,
+        ByteBufCodecs.VAR_INT, BasinInfusionRecipe::auraCost,
+        BasinInfusionRecipe::new
+    );
+
+    @Override
+    public boolean matches(SingleRecipeInput input, Level level) {
+        return ingredient.test(input.item());
+    }
+
+    @Override
+    public ItemStack assemble(SingleRecipeInput input, HolderLookup.Provider registries) {
+        return result.copy();
+    }
+
+    @Override
+    public RecipeSerializer<? extends Recipe<SingleRecipeInput>> getSerializer() {
+        return ModRecipes.BASIN_INFUSION_SERIALIZER.get();
+    }
+
+    @Override
+    public RecipeType<? extends Recipe<SingleRecipeInput>> getType() {
+        return ModRecipes.BASIN_INFUSION.get();
+    }
+
+    @Override
+    public PlacementInfo placementInfo() {
+        return PlacementInfo.NOT_PLACEABLE;
+    }
+
+    @Override
+    public RecipeBookCategory recipeBookCategory() {
+        return RecipeBookCategories.CRAFTING_MISC;
+    }
+
+    @Override
+    public boolean isSpecial() {
+        // Not shown in the recipe book
+        return true;
+    }
+
+    /**
+     * Serializer for {@link BasinInfusionRecipe}.
+     */
+    public static class Serializer implements RecipeSerializer<BasinInfusionRecipe> {
+
+        @Override
+        public MapCodec<BasinInfusionRecipe> codec() {
+            return CODEC;
+        }
+
+        @Override
+        public StreamCodec<RegistryFriendlyByteBuf, BasinInfusionRecipe> streamCodec() {
+            return STREAM_CODEC;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.util.AuroraRegions;
+import com.breakinblocks.auroral.util.BloomLedger;
 import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
@@ -15,7 +17,7 @@ public class ModDataAttachments {
         DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, Auroral.MOD_ID);
 
     /**
-     * Aurora state stored on ServerLevel to track if aurora is currently active.
+     * Aurora state of one region cell, tracking if an aurora is currently active there.
      */
     public record AuroraState(boolean active, long startTick, long endTick) {
         public static final AuroraState INACTIVE = new AuroraState(false, 0, 0);
@@ -45,10 +47,34 @@ public class ModDataAttachments {
         }
     }
 
-    public static final Supplier<AttachmentType<AuroraState>> AURORA_STATE = ATTACHMENT_TYPES.register(
+    /**
+     * Regional aurora states, a sparse grid of region cells stored on ServerLevel.
+     */
+    public static final Supplier<AttachmentType<AuroraRegions>> AURORA_REGIONS = ATTACHMENT_TYPES.register(
+        "aurora_regions",
+        () -> AttachmentType.builder(() -> new AuroraRegions())
+            .serialize(AuroraRegions.CODEC)
+            .build()
+    );
+
+    /**
+     * Level-wide aurora state saved before auroras became regional.
+     * Only read to carry an aurora that was active when the world was upgraded over to its regions.
+     */
+    public static final Supplier<AttachmentType<AuroraState>> LEGACY_AURORA_STATE = ATTACHMENT_TYPES.register(
         "aurora_state",
         () -> AttachmentType.builder(() -> AuroraState.INACTIVE)
             .serialize(AuroraState.CODEC)
             .build()
     );
+
+    /**
+     * Persistent ledger of Aurora Bloom positions, bucketed by chunk, stored on ServerLevel.
+     */
+    public static final Supplier<AttachmentType<BloomLedger>> BLOOM_LEDGER = ATTACHMENT_TYPES.register(
+        "bloom_ledger",
+        () -> AttachmentType.builder(() -> new BloomLedger())
+            .serialize(BloomLedger.CODEC)
+            .build()
+    );
 }
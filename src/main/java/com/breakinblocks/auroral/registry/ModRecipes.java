@@ -0,0 +1,23 @@
+package com.breakinblocks.auroral.registry;
+
+import com.breakinblocks.auroral.Auroral;
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+/**
+ * Registry for recipe types and serializers.
+ */
+public class ModRecipes {
+    public static final DeferredRegister<RecipeType<?>> RECIPE_TYPES = DeferredRegister.create(Registries.RECIPE_TYPE, Auroral.MOD_ID);
+    public static final DeferredRegister<RecipeSerializer<?>> RECIPE_SERIALIZERS = DeferredRegister.create(Registries.RECIPE_SERIALIZER, Auroral.MOD_ID);
+
+    public static final DeferredHolder<RecipeType<?>, RecipeType<BasinInfusionRecipe>> BASIN_INFUSION =
+        RECIPE_TYPES.register("basin_infusion", () -> RecipeType.simple(Auroral.id("basin_infusion")));
+
+    public static final DeferredHolder<RecipeSerializer<?>, RecipeSerializer<BasinInfusionRecipe>> BASIN_INFUSION_SERIALIZER =
+        RECIPE_SERIALIZERS.register("basin_infusion", BasinInfusionRecipe.Serializer::new);
+}
@@ -0,0 +1,51 @@
+package com.breakinblocks.auroral.util;
+
+import net.minecraft.util.RandomSource;
+
+/**
+ * Deterministic aurora forecast for one night in one region cell.
+ *
+ * Derived only from the world seed, the day index and the region cell, so the same night
+ * always gets the same forecast and anything can look ahead without waiting for the roll.
+ *
+ * @param day The day index; the night starts at day time {@code day * 24000 + 13000}
+ * @param roll The night's roll in [0, 1); an aurora happens if it is below the aurora chance
+ * @param startOffset Ticks after night start at which the aurora begins
+ * @param duration Aurora duration in ticks, before clamping to dawn
+ */
+public record AuroraForecast(long day, double roll, int startOffset, int duration) {
+
+    /**
+     * Latest an aurora can begin after night start (2 minutes).
+     */
+    public static final int MAX_START_OFFSET = 2400;
+
+    /**
+     * Computes the forecast for a night in a region cell.
+     *
+     * @param seed The world seed
+     * @param day The day index
+     * @param cell The packed region cell
+     * @param minDuration Minimum aurora duration in ticks
+     * @param maxDuration Maximum aurora duration in ticks
+     */
+    public static AuroraForecast compute(long seed, long day, long cell, int minDuration, int maxDuration) {
+        RandomSource random = RandomSource.create(seed
+            ^ (day * 0x9E3779B97F4A7C15L)
+            ^ (cell * 0xC2B2AE3D27D4EB4FL));
+
+        double roll = random.nextDouble();
+        int startOffset = random.nextInt(MAX_START_OFFSET + 1);
+        int duration = minDuration + random.nextInt(Math.max(maxDuration - minDuration, 0) + 1);
+        return new AuroraForecast(day, roll, startOffset, duration);
+    }
+
+    /**
+     * Checks if this night has an aurora at the given chance.
+     *
+     * @param chance Aurora chance, including any bonuses (0.0 to 1.0)
+     */
+    public boolean occurs(double chance) {
+        return roll < chance;
+    }
+}
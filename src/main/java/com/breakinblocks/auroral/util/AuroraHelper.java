@@ -1,86 +1,230 @@
 package com.breakinblocks.auroral.util;
 
+import com.breakinblocks.auroral.client.ClientAuroraState;
+import com.breakinblocks.auroral.config.AuroralConfig;
+import com.breakinblocks.auroral.events.AuroraEndEvent;
+import com.breakinblocks.auroral.events.AuroraEventHandler;
+import com.breakinblocks.auroral.events.AuroraStartEvent;
 import com.breakinblocks.auroral.registry.ModDataAttachments;
 import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.common.NeoForge;
 
 /**
  * Utility class for aurora-related queries and operations.
+ * Auroras are regional: each 512x512 block region cell has its own aurora state.
+ *
+ * State queries read the level's published {@link AuroraSnapshot} on the server and
+ * {@link ClientAuroraState} on the client, so they are safe to call from any thread.
  */
 public class AuroraHelper {
 
     /**
-     * Checks if an aurora is currently active in the given level.
+     * Checks if an aurora is currently active anywhere in the given level.
      *
      * @param level The level to check
-     * @return true if aurora is active
+     * @return true if any region of the level has an active aurora
      */
     public static boolean isAuroraActive(Level level) {
-        if (level instanceof ServerLevel serverLevel) {
-            AuroraState state = serverLevel.getData(ModDataAttachments.AURORA_STATE);
-            return state.active();
+        if (level.isClientSide()) {
+            // The client only knows the state of the region its player is in
+            return ClientAuroraState.isAuroraActive();
         }
-        // For client-side, we'll need to sync this state via packets
-        // For now, return false on client - will be updated when networking is added
-        return false;
+        return AuroraSnapshot.get(level).anyActive();
     }
 
     /**
-     * Gets the aurora state for a server level.
+     * Checks if an aurora is currently active in the region containing the given position.
+     *
+     * @param level The level to check
+     * @param pos The position to check
+     * @return true if aurora is active in that region
+     */
+    public static boolean isAuroraActive(Level level, BlockPos pos) {
+        if (level.isClientSide()) {
+            // The client only knows the state of the region its player is in
+            return ClientAuroraState.isAuroraActive();
+        }
+        return AuroraSnapshot.get(level).get(pos).active();
+    }
+
+    /**
+     * Gets the aurora state of the region containing the given position.
      *
      * @param level The server level
-     * @return The aurora state, or INACTIVE if not a server level
+     * @param pos The position
+     * @return The aurora state, or INACTIVE on the client (which only syncs whether it is active)
      */
-    public static AuroraState getAuroraState(Level level) {
-        if (level instanceof ServerLevel serverLevel) {
-            return serverLevel.getData(ModDataAttachments.AURORA_STATE);
+    public static AuroraState getAuroraState(Level level, BlockPos pos) {
+        if (level.isClientSide()) {
+            return AuroraState.INACTIVE;
         }
-        return AuroraState.INACTIVE;
+        return AuroraSnapshot.get(level).get(pos);
+    }
+
+    /**
+     * Gets the latest published aurora snapshot for a server level.
+     *
+     * @param level The server level
+     * @return The level's aurora snapshot
+     */
+    public static AuroraSnapshot getAuroraSnapshot(Level level) {
+        return AuroraSnapshot.get(level);
+    }
+
+    /**
+     * Gets the persistent regional aurora states for a server level.
+     * Only needed to change or persist auroras; use {@link #getAuroraSnapshot} for queries.
+     *
+     * @param level The server level
+     * @return The level's aurora regions
+     */
+    public static AuroraRegions getAuroraRegions(ServerLevel level) {
+        return level.getData(ModDataAttachments.AURORA_REGIONS);
     }
 
     /**
-     * Sets the aurora state for a server level.
+     * Starts an aurora event in the region containing the given position.
      *
      * @param level The server level
-     * @param state The new aurora state
+     * @param pos A position in the region
+     * @param duration Duration in ticks
+     * @return true if the aurora started, false if an {@link AuroraStartEvent} was canceled
      */
-    public static void setAuroraState(ServerLevel level, AuroraState state) {
-        level.setData(ModDataAttachments.AURORA_STATE, state);
+    public static boolean startAurora(ServerLevel level, BlockPos pos, long duration) {
+        return startAurora(level, AuroraRegions.cellKey(pos), duration);
     }
 
     /**
-     * Starts an aurora event in the given level.
+     * Starts an aurora event in the given region cell.
      *
      * @param level The server level
+     * @param cell The packed region cell
      * @param duration Duration in ticks
+     * @return true if the aurora started, false if an {@link AuroraStartEvent} was canceled
      */
-    public static void startAurora(ServerLevel level, long duration) {
+    public static boolean startAurora(ServerLevel level, long cell, long duration) {
         long gameTime = level.getGameTime();
-        AuroraState newState = new AuroraState(true, gameTime, gameTime + duration);
-        setAuroraState(level, newState);
+        AuroraState state = new AuroraState(true, gameTime, gameTime + duration);
+        if (NeoForge.EVENT_BUS.post(new AuroraStartEvent(level, cell, state)).isCanceled()) {
+            return false;
+        }
+
+        AuroraRegions regions = getAuroraRegions(level);
+        regions.start(cell, state.startTick(), state.endTick());
+        level.setData(ModDataAttachments.AURORA_REGIONS, regions);
+        AuroraSnapshot.publish(level, regions);
+        AuroraEventHandler.onAuroraStateChanged(level);
+        AuroraListeners.notifyStart(level, cell, state);
+        return true;
+    }
+
+    /**
+     * Ends the aurora event in the region containing the given position.
+     *
+     * @param level The server level
+     * @param pos A position in the region
+     * @return true if the region had an active aurora
+     */
+    public static boolean endAurora(ServerLevel level, BlockPos pos) {
+        return endAurora(level, AuroraRegions.cellKey(pos));
+    }
+
+    /**
+     * Ends the aurora event in the given region cell.
+     *
+     * @param level The server level
+     * @param cell The packed region cell
+     * @return true if the region had an active aurora
+     */
+    public static boolean endAurora(ServerLevel level, long cell) {
+        AuroraRegions regions = getAuroraRegions(level);
+        AuroraState state = regions.get(cell);
+        if (!regions.end(cell)) {
+            return false;
+        }
+        level.setData(ModDataAttachments.AURORA_REGIONS, regions);
+        AuroraSnapshot.publish(level, regions);
+        AuroraEventHandler.onAuroraStateChanged(level);
+        AuroraListeners.notifyEnd(level, cell, state);
+        NeoForge.EVENT_BUS.post(new AuroraEndEvent(level, cell, state));
+        return true;
+    }
+
+    /**
+     * Gets the day index of the current night, or of the next night during the day.
+     * Night {@code day} runs from day time {@code day * 24000 + 13000} to {@code day * 24000 + 23000}.
+     *
+     * @param level The level
+     * @return The day index of the current or next night
+     */
+    public static long getNextNightDay(Level level) {
+        long dayTime = level.getDayTime();
+        long day = dayTime / 24000;
+        return dayTime % 24000 >= 23000 ? day + 1 : day;
+    }
+
+    /**
+     * Gets the deterministic aurora forecast for a night in the region containing the given position.
+     *
+     * @param level The server level
+     * @param pos A position in the region
+     * @param day The day index of the night
+     * @return The forecast for that night
+     */
+    public static AuroraForecast getForecast(ServerLevel level, BlockPos pos, long day) {
+        return getForecast(level, AuroraRegions.cellKey(pos), day);
+    }
+
+    /**
+     * Gets the deterministic aurora forecast for a night in the given region cell.
+     *
+     * @param level The server level
+     * @param cell The packed region cell
+     * @param day The day index of the night
+     * @return The forecast for that night
+     */
+    public static AuroraForecast getForecast(ServerLevel level, long cell, long day) {
+        return AuroraForecast.compute(level.getSeed(), day, cell,
+            AuroralConfig.SERVER.auroraMinDuration.get(), AuroralConfig.SERVER.auroraMaxDuration.get());
+    }
+
+    /**
+     * Checks if an aurora is forecast for a night in the region containing the given position,
+     * at the base aurora chance (lit Hearthwood Logs can still raise the chance on the night).
+     *
+     * @param level The server level
+     * @param pos A position in the region
+     * @param day The day index of the night
+     * @return true if an aurora is forecast
+     */
+    public static boolean isAuroraForecast(ServerLevel level, BlockPos pos, long day) {
+        return getForecast(level, pos, day).occurs(AuroralConfig.SERVER.auroraChance.get());
     }
 
     /**
-     * Ends the current aurora event in the given level.
+     * Gets the aurora scheduled to start later tonight in the region containing the given position.
      *
      * @param level The server level
+     * @param pos A position in the region
+     * @return The scheduled aurora state, or INACTIVE if none is scheduled
      */
-    public static void endAurora(ServerLevel level) {
-        setAuroraState(level, AuroraState.INACTIVE);
+    public static AuroraState getScheduledAurora(ServerLevel level, BlockPos pos) {
+        return getAuroraRegions(level).getScheduled(AuroraRegions.cellKey(pos));
     }
 
     /**
      * Checks if a player at the given position is experiencing an active aurora.
-     * This means aurora is active AND player is in a cold biome.
+     * This means aurora is active in that region AND player is in a cold biome.
      *
      * @param level The level
      * @param pos The position (usually player position)
      * @return true if aurora effects should apply
      */
     public static boolean isExperiencingAurora(Level level, BlockPos pos) {
-        return isAuroraActive(level) && BiomeHelper.canExperienceAurora(level, pos);
+        return isAuroraActive(level, pos) && BiomeHelper.canExperienceAurora(level, pos);
     }
 
     /**
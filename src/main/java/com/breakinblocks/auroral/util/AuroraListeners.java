@@ -0,0 +1,149 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of components that want to be told when the aurora over their region changes, per dimension.
+ *
+ * Listeners register for the region cell containing their position (e.g., a block entity on load,
+ * or an entity whenever it crosses into another region) and are notified once per start/end
+ * transition instead of polling the aurora state every tick.
+ *
+ * Server-side only; client levels are never tracked.
+ */
+public final class AuroraListeners {
+
+    // Packed region cell -> listeners in that region
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<ReferenceSet<AuroraListener>>> listenersByDimension = new ConcurrentHashMap<>();
+
+    private AuroraListeners() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Registers a listener for the region containing {@code pos}.
+     */
+    public static void register(Level level, BlockPos pos, AuroraListener listener) {
+        register(level, AuroraRegions.cellKey(pos), listener);
+    }
+
+    /**
+     * Registers a listener for a region cell.
+     */
+    public static void register(Level level, long cell, AuroraListener listener) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        listenersByDimension
+            .computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(cell, k -> new ReferenceOpenHashSet<>())
+            .add(listener);
+    }
+
+    /**
+     * Unregisters a listener from the region containing {@code pos}.
+     */
+    public static void unregister(Level level, BlockPos pos, AuroraListener listener) {
+        unregister(level, AuroraRegions.cellKey(pos), listener);
+    }
+
+    /**
+     * Unregisters a listener from a region cell.
+     */
+    public static void unregister(Level level, long cell, AuroraListener listener) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        Long2ObjectMap<ReferenceSet<AuroraListener>> cells = listenersByDimension.get(level.dimension());
+        if (cells == null) {
+            return;
+        }
+
+        ReferenceSet<AuroraListener> listeners = cells.get(cell);
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    /**
+     * Drops every listener for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        listenersByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Notifies the listeners in a region that its aurora started.
+     */
+    public static void notifyStart(ServerLevel level, long cell, AuroraState state) {
+        for (AuroraListener listener : snapshot(level, cell)) {
+            listener.onAuroraStart(level, state);
+        }
+    }
+
+    /**
+     * Notifies the listeners in a region that its aurora ended.
+     */
+    public static void notifyEnd(ServerLevel level, long cell, AuroraState state) {
+        for (AuroraListener listener : snapshot(level, cell)) {
+            listener.onAuroraEnd(level, state);
+        }
+    }
+
+    /**
+     * Notifies the listeners in a region of an aurora spawn pulse.
+     */
+    public static void notifyPulse(ServerLevel level, long cell, AuroraState state) {
+        for (AuroraListener listener : snapshot(level, cell)) {
+            listener.onAuroraPulse(level, state);
+        }
+    }
+
+    /**
+     * Copies a region's listeners so they can unregister themselves while being notified.
+     */
+    private static AuroraListener[] snapshot(ServerLevel level, long cell) {
+        Long2ObjectMap<ReferenceSet<AuroraListener>> cells = listenersByDimension.get(level.dimension());
+        if (cells == null) {
+            return new AuroraListener[0];
+        }
+
+        ReferenceSet<AuroraListener> listeners = cells.get(cell);
+        return listeners != null ? listeners.toArray(new AuroraListener[0]) : new AuroraListener[0];
+    }
+
+    /**
+     * Receives aurora transitions for the region a component registered in.
+     */
+    public interface AuroraListener {
+
+        /**
+         * Called after an aurora started in the listener's region.
+         */
+        void onAuroraStart(ServerLevel level, AuroraState state);
+
+        /**
+         * Called after the aurora in the listener's region ended.
+         */
+        void onAuroraEnd(ServerLevel level, AuroraState state);
+
+        /**
+         * Called on every aurora spawn pulse while the listener's region has an active aurora.
+         */
+        default void onAuroraPulse(ServerLevel level, AuroraState state) {
+        }
+    }
+}
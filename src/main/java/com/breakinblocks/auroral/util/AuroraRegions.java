@@ -0,0 +1,220 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sparse grid of regional aurora states, stored as a level data attachment.
+ *
+ * The level is divided into 512x512 block region cells keyed by a packed cell pos.
+ * Only cells with an active aurora are stored, so each cell has its own start and end
+ * ticks and aurora work scales with the regions players actually occupy. Auroras forecast
+ * for tonight wait in {@code scheduledCells} until their start tick.
+ */
+public class AuroraRegions {
+
+    /**
+     * Region cells are 32x32 chunks (512x512 blocks).
+     */
+    public static final int CELL_SHIFT = 5;
+
+    public static final MapCodec<AuroraRegions> CODEC = RecordCodecBuilder.mapCodec(instance ->
+        instance.group(
+            Region.CODEC.listOf().optionalFieldOf("regions", List.of()).forGetter(regions -> toRegionList(regions.activeCells)),
+            Region.CODEC.listOf().optionalFieldOf("scheduled", List.of()).forGetter(regions -> toRegionList(regions.scheduledCells))
+        ).apply(instance, AuroraRegions::new)
+    );
+
+    // Packed cell pos -> aurora state of that cell (active cells only)
+    private final Long2ObjectMap<AuroraState> activeCells = new Long2ObjectOpenHashMap<>();
+
+    // Packed cell pos -> aurora state that cell takes on at its start tick (scheduled cells only)
+    private final Long2ObjectMap<AuroraState> scheduledCells = new Long2ObjectOpenHashMap<>();
+
+    public AuroraRegions() {
+    }
+
+    private AuroraRegions(List<Region> regions, List<Region> scheduled) {
+        for (Region region : regions) {
+            activeCells.put(region.cell(), new AuroraState(true, region.startTick(), region.endTick()));
+        }
+        for (Region region : scheduled) {
+            scheduledCells.put(region.cell(), new AuroraState(true, region.startTick(), region.endTick()));
+        }
+    }
+
+    /**
+     * Gets the region cell containing a block position.
+     */
+    public static long cellKey(BlockPos pos) {
+        return cellKey(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Gets the region cell containing the given block column.
+     */
+    public static long cellKey(int blockX, int blockZ) {
+        return ChunkPos.asLong(
+            SectionPos.blockToSectionCoord(blockX) >> CELL_SHIFT,
+            SectionPos.blockToSectionCoord(blockZ) >> CELL_SHIFT);
+    }
+
+    /**
+     * Gets the region cell containing a packed chunk pos.
+     */
+    public static long cellKeyForChunk(long chunkKey) {
+        return ChunkPos.asLong(ChunkPos.getX(chunkKey) >> CELL_SHIFT, ChunkPos.getZ(chunkKey) >> CELL_SHIFT);
+    }
+
+    /**
+     * Formats a region cell's grid coordinates for logs and command output.
+     */
+    public static String formatCell(long cell) {
+        return ChunkPos.getX(cell) + ", " + ChunkPos.getZ(cell);
+    }
+
+    /**
+     * Gets the aurora state of a region cell, or {@link AuroraState#INACTIVE}.
+     */
+    public AuroraState get(long cell) {
+        AuroraState state = activeCells.get(cell);
+        return state != null ? state : AuroraState.INACTIVE;
+    }
+
+    /**
+     * Gets the aurora state of the region cell containing a position.
+     */
+    public AuroraState get(BlockPos pos) {
+        return get(cellKey(pos));
+    }
+
+    /**
+     * Starts (or replaces) the aurora in a region cell.
+     */
+    public void start(long cell, long startTick, long endTick) {
+        activeCells.put(cell, new AuroraState(true, startTick, endTick));
+    }
+
+    /**
+     * Ends the aurora in a region cell.
+     *
+     * @return true if the cell had an active aurora
+     */
+    public boolean end(long cell) {
+        return activeCells.remove(cell) != null;
+    }
+
+    /**
+     * Checks if no region cell has an active aurora.
+     */
+    public boolean isEmpty() {
+        return activeCells.isEmpty();
+    }
+
+    /**
+     * Gets a read-only view of every active region cell.
+     */
+    public Long2ObjectMap<AuroraState> activeCells() {
+        return Long2ObjectMaps.unmodifiable(activeCells);
+    }
+
+    /**
+     * Gets the earliest end tick among active region cells, or {@link Long#MAX_VALUE}.
+     */
+    public long earliestEndTick() {
+        long earliest = Long.MAX_VALUE;
+        for (AuroraState state : activeCells.values()) {
+            earliest = Math.min(earliest, state.endTick());
+        }
+        return earliest;
+    }
+
+    /**
+     * Schedules an aurora to start in a region cell at {@code startTick}.
+     */
+    public void schedule(long cell, long startTick, long endTick) {
+        scheduledCells.put(cell, new AuroraState(true, startTick, endTick));
+    }
+
+    /**
+     * Gets the aurora scheduled in a region cell, or {@link AuroraState#INACTIVE}.
+     */
+    public AuroraState getScheduled(long cell) {
+        AuroraState state = scheduledCells.get(cell);
+        return state != null ? state : AuroraState.INACTIVE;
+    }
+
+    /**
+     * Checks if any region cell has a scheduled aurora.
+     */
+    public boolean hasScheduled() {
+        return !scheduledCells.isEmpty();
+    }
+
+    /**
+     * Gets the earliest start tick among scheduled region cells, or {@link Long#MAX_VALUE}.
+     */
+    public long earliestScheduledStartTick() {
+        long earliest = Long.MAX_VALUE;
+        for (AuroraState state : scheduledCells.values()) {
+            earliest = Math.min(earliest, state.startTick());
+        }
+        return earliest;
+    }
+
+    /**
+     * Removes and returns every scheduled aurora whose start tick has been reached.
+     */
+    public Long2ObjectMap<AuroraState> takeDueScheduled(long gameTime) {
+        Long2ObjectMap<AuroraState> due = new Long2ObjectOpenHashMap<>();
+        ObjectIterator<Long2ObjectMap.Entry<AuroraState>> iterator = scheduledCells.long2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            Long2ObjectMap.Entry<AuroraState> entry = iterator.next();
+            if (gameTime >= entry.getValue().startTick()) {
+                due.put(entry.getLongKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Drops every scheduled aurora (e.g., once the night they were forecast for is over).
+     */
+    public void clearScheduled() {
+        scheduledCells.clear();
+    }
+
+    private static List<Region> toRegionList(Long2ObjectMap<AuroraState> cells) {
+        List<Region> regions = new ArrayList<>(cells.size());
+        for (Long2ObjectMap.Entry<AuroraState> entry : cells.long2ObjectEntrySet()) {
+            regions.add(new Region(entry.getLongKey(), entry.getValue().startTick(), entry.getValue().endTick()));
+        }
+        return regions;
+    }
+
+    /**
+     * Serialized form of one active or scheduled region cell.
+     */
+    private record Region(long cell, long startTick, long endTick) {
+        static final Codec<Region> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                Codec.LONG.fieldOf("cell").forGetter(Region::cell),
+                Codec.LONG.fieldOf("start_tick").forGetter(Region::startTick),
+                Codec.LONG.fieldOf("end_tick").forGetter(Region::endTick)
+            ).apply(instance, Region::new)
+        );
+    }
+}
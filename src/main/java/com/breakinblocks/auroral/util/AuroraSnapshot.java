@@ -0,0 +1,123 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.registry.ModDataAttachments.AuroraState;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, read-optimized view of a level's regional aurora states.
+ *
+ * A new snapshot is built from the {@link AuroraRegions} attachment and published atomically
+ * whenever an aurora starts, ends or is scheduled, so reads never touch the attachment and are safe from
+ * any thread (worker threads, async chunk tasks, worldgen). The attachment is only used for
+ * persistence and is read back when the level loads.
+ */
+public final class AuroraSnapshot {
+
+    /**
+     * Snapshot of a level with no active or scheduled auroras.
+     */
+    public static final AuroraSnapshot EMPTY = new AuroraSnapshot(Long2ObjectMaps.emptyMap(), Long.MAX_VALUE, Long.MAX_VALUE);
+
+    // Latest published snapshot per dimension; each put is an atomic, lock-free publish
+    private static final Map<ResourceKey<Level>, AuroraSnapshot> snapshotsByDimension = new ConcurrentHashMap<>();
+
+    private final Long2ObjectMap<AuroraState> activeCells;
+    private final long earliestEndTick;
+    private final long earliestScheduledStartTick;
+
+    private AuroraSnapshot(Long2ObjectMap<AuroraState> activeCells, long earliestEndTick, long earliestScheduledStartTick) {
+        this.activeCells = activeCells;
+        this.earliestEndTick = earliestEndTick;
+        this.earliestScheduledStartTick = earliestScheduledStartTick;
+    }
+
+    /**
+     * Gets the latest published snapshot for a level, or {@link #EMPTY}.
+     */
+    public static AuroraSnapshot get(Level level) {
+        AuroraSnapshot snapshot = snapshotsByDimension.get(level.dimension());
+        return snapshot != null ? snapshot : EMPTY;
+    }
+
+    /**
+     * Builds and publishes a new snapshot from a level's aurora regions.
+     * Called on the server thread after the regions change or load.
+     */
+    public static void publish(Level level, AuroraRegions regions) {
+        if (regions.isEmpty() && !regions.hasScheduled()) {
+            snapshotsByDimension.put(level.dimension(), EMPTY);
+            return;
+        }
+
+        Long2ObjectMap<AuroraState> activeCells = regions.isEmpty()
+            ? Long2ObjectMaps.emptyMap()
+            : Long2ObjectMaps.unmodifiable(new Long2ObjectOpenHashMap<>(regions.activeCells()));
+        snapshotsByDimension.put(level.dimension(),
+            new AuroraSnapshot(activeCells, regions.earliestEndTick(), regions.earliestScheduledStartTick()));
+    }
+
+    /**
+     * Drops the snapshot for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        snapshotsByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Gets the aurora state of a region cell, or {@link AuroraState#INACTIVE}.
+     */
+    public AuroraState get(long cell) {
+        AuroraState state = activeCells.get(cell);
+        return state != null ? state : AuroraState.INACTIVE;
+    }
+
+    /**
+     * Gets the aurora state of the region cell containing a position.
+     */
+    public AuroraState get(BlockPos pos) {
+        return get(AuroraRegions.cellKey(pos));
+    }
+
+    /**
+     * Checks if any region cell has an active aurora.
+     */
+    public boolean anyActive() {
+        return !activeCells.isEmpty();
+    }
+
+    /**
+     * Gets every active region cell.
+     */
+    public Long2ObjectMap<AuroraState> activeCells() {
+        return activeCells;
+    }
+
+    /**
+     * Gets the earliest end tick among active region cells, or {@link Long#MAX_VALUE}.
+     */
+    public long earliestEndTick() {
+        return earliestEndTick;
+    }
+
+    /**
+     * Checks if any region cell has an aurora scheduled for later tonight.
+     */
+    public boolean hasScheduled() {
+        return earliestScheduledStartTick != Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the earliest start tick among scheduled region cells, or {@link Long#MAX_VALUE}.
+     */
+    public long earliestScheduledStartTick() {
+        return earliestScheduledStartTick;
+    }
+}
@@ -0,0 +1,116 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.recipe.BasinInfusionRecipe;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Input item index of the loaded {@link BasinInfusionRecipe}s.
+ *
+ * The server index is built from the recipe manager on first use and rebuilt whenever
+ * the manager is replaced (datapack reload); the client index is rebuilt when recipes are
+ * synced to it. A lookup is a single hash lookup by input item, and nothing is allocated
+ * until an infusion actually produces a result.
+ */
+public final class BasinInfusions {
+
+    // Built per side, published atomically so readers always see a complete index
+    private static volatile Index serverIndex = Index.EMPTY;
+    private static volatile Index clientIndex = Index.EMPTY;
+
+    private BasinInfusions() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Gets the infusion recipe for an input stack, or null if it can't be infused.
+     */
+    @Nullable
+    public static BasinInfusionRecipe get(Level level, ItemStack input) {
+        if (input.isEmpty()) {
+            return null;
+        }
+
+        BasinInfusionRecipe recipe = index(level).byItem.get(input.getItem());
+        return recipe != null && recipe.ingredient().test(input) ? recipe : null;
+    }
+
+    /**
+     * Gets every infusion recipe synced to the client (e.g., for recipe viewers).
+     */
+    public static List<RecipeHolder<BasinInfusionRecipe>> clientRecipes() {
+        return clientIndex.recipes;
+    }
+
+    /**
+     * Rebuilds the client index from recipes received from the server.
+     */
+    public static void rebuildClient(Collection<RecipeHolder<BasinInfusionRecipe>> recipes) {
+        clientIndex = Index.build(null, recipes);
+    }
+
+    /**
+     * Drops the client index (e.g., on disconnect).
+     */
+    public static void clearClient() {
+        clientIndex = Index.EMPTY;
+    }
+
+    private static Index index(Level level) {
+        MinecraftServer server = level.getServer();
+        if (level.isClientSide() || server == null) {
+            return clientIndex;
+        }
+
+        RecipeManager recipeManager = server.getRecipeManager();
+        Index index = serverIndex;
+        if (index.source != recipeManager) {
+            index = Index.build(recipeManager, collectRecipes(recipeManager));
+            serverIndex = index;
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RecipeHolder<BasinInfusionRecipe>> collectRecipes(RecipeManager recipeManager) {
+        List<RecipeHolder<BasinInfusionRecipe>> recipes = new ArrayList<>();
+        for (RecipeHolder<?> holder : recipeManager.getRecipes()) {
+            if (holder.value() instanceof BasinInfusionRecipe) {
+                recipes.add((RecipeHolder<BasinInfusionRecipe>) holder);
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Immutable index of one set of loaded recipes.
+     *
+     * @param source The recipe manager the index was built from (null on the client)
+     */
+    private record Index(@Nullable RecipeManager source,
+                         Reference2ObjectMap<Item, BasinInfusionRecipe> byItem,
+                         List<RecipeHolder<BasinInfusionRecipe>> recipes) {
+
+        static final Index EMPTY = new Index(null, new Reference2ObjectOpenHashMap<>(), List.of());
+
+        static Index build(@Nullable RecipeManager source, Collection<RecipeHolder<BasinInfusionRecipe>> recipes) {
+            Reference2ObjectMap<Item, BasinInfusionRecipe> byItem = new Reference2ObjectOpenHashMap<>();
+            for (RecipeHolder<BasinInfusionRecipe> holder : recipes) {
+                // First recipe registered for an item wins
+                holder.value().ingredient().items().forEach(item -> byItem.putIfAbsent(item.value(), holder.value()));
+            }
+            return new Index(source, byItem, List.copyOf(recipes));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.breakinblocks.auroral.util;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.tags.BiomeTags;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.biome.Biome;
@@ -11,6 +16,44 @@ import net.minecraft.world.level.biome.Biome;
  */
 public class BiomeHelper {
 
+    /**
+     * Classification for biomes that are cold at every height.
+     */
+    private static final int ALWAYS_COLD = Integer.MIN_VALUE;
+
+    /**
+     * Classification for biomes that are never cold within any sensible build height.
+     */
+    private static final int NEVER_COLD = Integer.MAX_VALUE;
+
+    // Biome missing from the table (e.g., before the first tag load)
+    private static final int UNCLASSIFIED = Integer.MIN_VALUE + 1;
+
+    /**
+     * Temperature below which a biome is cold enough to snow.
+     */
+    private static final float SNOW_TEMPERATURE = 0.15F;
+
+    /**
+     * Temperature {@link Biome.TemperatureModifier#FROZEN} lowers a biome to in its frozen patches.
+     */
+    private static final float FROZEN_PATCH_TEMPERATURE = 0.2F;
+
+    /**
+     * Blocks above sea level where temperature starts dropping with height.
+     */
+    private static final int HEIGHT_COOLING_START = 17;
+
+    /**
+     * Temperature lost per block above {@link #HEIGHT_COOLING_START}.
+     */
+    private static final float COOLING_PER_BLOCK = 0.05F / 40.0F;
+
+    // Biome -> Y (relative to sea level) from which the biome is cold, rebuilt on tag reload.
+    // Client and server hold separate biome registries, so each side has its own table.
+    private static volatile Reference2IntMap<Holder<Biome>> serverColdThresholds = Reference2IntMaps.emptyMap();
+    private static volatile Reference2IntMap<Holder<Biome>> clientColdThresholds = Reference2IntMaps.emptyMap();
+
     /**
      * Checks if the biome at the given position is considered "cold" for aurora purposes.
      * Cold biomes include snowy biomes and any biome where it snows.
@@ -21,21 +64,62 @@ public class BiomeHelper {
      */
     public static boolean isColdBiome(Level level, BlockPos pos) {
         Holder<Biome> biomeHolder = level.getBiome(pos);
-        Biome biome = biomeHolder.value();
+        Reference2IntMap<Holder<Biome>> thresholds = level.isClientSide() ? clientColdThresholds : serverColdThresholds;
+
+        int threshold = thresholds.getOrDefault(biomeHolder, UNCLASSIFIED);
+        if (threshold == UNCLASSIFIED) {
+            // Biome not classified yet - classify it directly
+            threshold = classify(biomeHolder);
+        }
+
+        return pos.getY() - level.getSeaLevel() >= threshold;
+    }
+
+    /**
+     * Rebuilds the cold biome table from the biome registry.
+     * Called whenever tags are (re)loaded on either side.
+     *
+     * @param registries The registry lookup holding the freshly bound biome tags
+     * @param clientSide Whether these are the client's registries
+     */
+    public static void rebuildColdBiomeTable(HolderLookup.Provider registries, boolean clientSide) {
+        Reference2IntMap<Holder<Biome>> thresholds = new Reference2IntOpenHashMap<>();
+        registries.lookupOrThrow(Registries.BIOME).listElements()
+            .forEach(biomeHolder -> thresholds.put(biomeHolder, classify(biomeHolder)));
+
+        if (clientSide) {
+            clientColdThresholds = thresholds;
+        } else {
+            serverColdThresholds = thresholds;
+        }
+    }
 
-        // Check if tagged as snowy (IS_SNOWY tag marks snowy biomes)
+    /**
+     * Classifies a biome as always cold, never cold, or cold from a Y threshold relative to sea level.
+     * Mirrors {@link Biome#coldEnoughToSnow}: temperature drops with height above sea level + 17,
+     * ignoring the small per-column temperature noise vanilla adds to the snow line.
+     * Biomes with the {@link Biome.TemperatureModifier#FROZEN} modifier are classified by their
+     * frozen patches (vanilla drops them to 0.2), so they count as cold wherever any part of them could.
+     */
+    private static int classify(Holder<Biome> biomeHolder) {
+        // Taiga and mountain biomes always count as cold
         if (biomeHolder.is(BiomeTags.IS_TAIGA) || biomeHolder.is(BiomeTags.IS_MOUNTAIN)) {
-            return true;
+            return ALWAYS_COLD;
         }
 
-        // Check if the biome has cold enough temperature for snow
-        // In 1.21.11, coldEnoughToSnow takes BlockPos and sea level
-        int seaLevel = level.getSeaLevel();
-        if (biome.coldEnoughToSnow(pos, seaLevel)) {
-            return true;
+        Biome biome = biomeHolder.value();
+        float temperature = biome.getBaseTemperature();
+        if (biome.getModifiedClimateSettings().temperatureModifier() == Biome.TemperatureModifier.FROZEN) {
+            temperature = Math.min(temperature, FROZEN_PATCH_TEMPERATURE);
+        }
+        if (temperature < SNOW_TEMPERATURE) {
+            return ALWAYS_COLD;
         }
 
-        return false;
+        // Blocks of cooling needed above the cooling start before it can snow
+        double blocksToSnow = Math.floor((temperature - SNOW_TEMPERATURE) / COOLING_PER_BLOCK) + 1;
+        double threshold = HEIGHT_COOLING_START + blocksToSnow;
+        return threshold > Short.MAX_VALUE ? NEVER_COLD : (int) threshold;
     }
 
     /**
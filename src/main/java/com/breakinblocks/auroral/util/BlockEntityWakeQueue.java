@@ -0,0 +1,87 @@
+package com.breakinblocks.auroral.util;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wake-ups for dormant block entities, per dimension.
+ *
+ * Block entities that don't tick (e.g., the Cold Brewing Stand) queue themselves here when
+ * something they depend on changes, such as their inventory. Each queued block entity is woken
+ * once on the next level tick, however many changes happened in between, and decides whether
+ * it has work to do or goes back to sleep.
+ *
+ * Server-side only; client levels are never tracked.
+ */
+public final class BlockEntityWakeQueue {
+
+    // Block entities to wake on the next level tick, in the order they were queued
+    private static final Map<ResourceKey<Level>, ReferenceSet<Wakeable>> pendingByDimension = new ConcurrentHashMap<>();
+
+    private BlockEntityWakeQueue() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Queues a block entity to be woken on the next level tick.
+     */
+    public static void wake(Level level, Wakeable wakeable) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        pendingByDimension
+            .computeIfAbsent(level.dimension(), k -> new ReferenceLinkedOpenHashSet<>())
+            .add(wakeable);
+    }
+
+    /**
+     * Wakes every queued block entity that is still in the level.
+     * Called once per level tick on the server thread.
+     */
+    public static void drain(ServerLevel level) {
+        ReferenceSet<Wakeable> pending = pendingByDimension.get(level.dimension());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        // Copy first - waking may queue the same or other block entities for the next tick
+        Wakeable[] due = pending.toArray(new Wakeable[0]);
+        pending.clear();
+        for (Wakeable wakeable : due) {
+            if (wakeable instanceof BlockEntity blockEntity && blockEntity.isRemoved()) {
+                continue;
+            }
+            wakeable.onWake(level);
+        }
+    }
+
+    /**
+     * Drops every queued wake-up for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        pendingByDimension.remove(level.dimension());
+    }
+
+    /**
+     * A block entity that sleeps until woken.
+     */
+    public interface Wakeable {
+
+        /**
+         * Called on the level tick after the block entity was queued.
+         */
+        void onWake(ServerLevel level);
+    }
+}
@@ -0,0 +1,151 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.registry.ModBlocks;
+import com.breakinblocks.auroral.registry.ModTags;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.Set;
+
+/**
+ * Precomputed block state classifications for snow, ice and gem checks on hot paths.
+ *
+ * Every block state gets a bitset of the flags below, stored in a table indexed by its
+ * {@link Block#BLOCK_STATE_REGISTRY} id, so a check is one array load and a mask.
+ * Some flags come from tags, so the table is rebuilt whenever tags are (re)loaded.
+ * Block tags are bound on the shared block registry, so one table serves both sides.
+ */
+public final class BlockStateFlags {
+
+    /** Snow layer. */
+    public static final int SNOW_LAYER = 1;
+
+    /** Full snow: snow block or powder snow. */
+    public static final int SOLID_SNOW = 1 << 1;
+
+    /** Shimmering Ice. */
+    public static final int SHIMMERING_ICE = 1 << 2;
+
+    /** Dirt variants that can be tilled to Shimmer Soil. */
+    public static final int TILLABLE_DIRT = 1 << 3;
+
+    /** Gems that get the Shimmersteel Pickaxe's Fortune bonus (built-in list or {@code auroral:gem_ores}). */
+    public static final int GEM = 1 << 4;
+
+    /** In {@code minecraft:snow}. */
+    public static final int SNOW_TAG = 1 << 5;
+
+    /** In {@code minecraft:ice}. */
+    public static final int ICE_TAG = 1 << 6;
+
+    /** Packed or blue ice. */
+    public static final int PACKED_ICE = 1 << 7;
+
+    /** Soul sand or soul soil. */
+    public static final int SOUL_BLOCK = 1 << 8;
+
+    /** Obsidian or crying obsidian. */
+    public static final int OBSIDIAN = 1 << 9;
+
+    /** Any vanilla snow. */
+    public static final int SNOW = SNOW_LAYER | SOLID_SNOW;
+
+    /**
+     * Blocks that count as "gems" for the Fortune bonus, in addition to the tag.
+     */
+    private static final Set<Block> GEM_BLOCKS = Set.of(
+        Blocks.DIAMOND_ORE,
+        Blocks.DEEPSLATE_DIAMOND_ORE,
+        Blocks.EMERALD_ORE,
+        Blocks.DEEPSLATE_EMERALD_ORE,
+        Blocks.LAPIS_ORE,
+        Blocks.DEEPSLATE_LAPIS_ORE,
+        Blocks.REDSTONE_ORE,
+        Blocks.DEEPSLATE_REDSTONE_ORE,
+        Blocks.NETHER_QUARTZ_ORE,
+        Blocks.AMETHYST_CLUSTER,
+        Blocks.LARGE_AMETHYST_BUD,
+        Blocks.MEDIUM_AMETHYST_BUD,
+        Blocks.SMALL_AMETHYST_BUD
+    );
+
+    // Block state id -> flags, rebuilt on tag reload (empty until the first load)
+    private static volatile int[] flagsByStateId = new int[0];
+
+    private BlockStateFlags() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Checks if a block state has any of the given flags.
+     */
+    public static boolean has(BlockState state, int mask) {
+        return (get(state) & mask) != 0;
+    }
+
+    /**
+     * Gets all flags of a block state.
+     */
+    public static int get(BlockState state) {
+        int[] table = flagsByStateId;
+        int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        if (id >= 0 && id < table.length) {
+            return table[id];
+        }
+        // Not in the table yet (e.g., before the first tag load) - classify it directly
+        return classify(state);
+    }
+
+    /**
+     * Rebuilds the table for every registered block state.
+     * Called whenever tags are (re)loaded on either side.
+     */
+    public static void rebuild() {
+        int[] table = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+            if (id >= 0 && id < table.length) {
+                table[id] = classify(state);
+            }
+        }
+        flagsByStateId = table;
+    }
+
+    private static int classify(BlockState state) {
+        int flags = 0;
+        if (state.is(Blocks.SNOW)) {
+            flags |= SNOW_LAYER;
+        }
+        if (state.is(Blocks.SNOW_BLOCK) || state.is(Blocks.POWDER_SNOW)) {
+            flags |= SOLID_SNOW;
+        }
+        if (state.is(ModBlocks.SHIMMERING_ICE.get())) {
+            flags |= SHIMMERING_ICE;
+        }
+        if (state.is(Blocks.DIRT) || state.is(Blocks.GRASS_BLOCK) || state.is(Blocks.DIRT_PATH)
+            || state.is(Blocks.COARSE_DIRT) || state.is(Blocks.ROOTED_DIRT)) {
+            flags |= TILLABLE_DIRT;
+        }
+        if (GEM_BLOCKS.contains(state.getBlock()) || state.is(ModTags.Blocks.GEM_ORES)) {
+            flags |= GEM;
+        }
+        if (state.is(BlockTags.SNOW)) {
+            flags |= SNOW_TAG;
+        }
+        if (state.is(BlockTags.ICE)) {
+            flags |= ICE_TAG;
+        }
+        if (state.is(Blocks.PACKED_ICE) || state.is(Blocks.BLUE_ICE)) {
+            flags |= PACKED_ICE;
+        }
+        if (state.is(Blocks.SOUL_SAND) || state.is(Blocks.SOUL_SOIL)) {
+            flags |= SOUL_BLOCK;
+        }
+        if (state.is(Blocks.OBSIDIAN) || state.is(Blocks.CRYING_OBSIDIAN)) {
+            flags |= OBSIDIAN;
+        }
+        return flags;
+    }
+}
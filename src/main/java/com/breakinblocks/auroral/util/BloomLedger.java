@@ -0,0 +1,187 @@
+package com.breakinblocks.auroral.util;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Persistent ledger of Aurora Bloom positions, stored as a level data attachment.
+ *
+ * Positions are kept as packed longs, bucketed by chunk. Blooms spawned during an active
+ * regional aurora live in {@code blooms}; blooms whose chunk was unloaded when their aurora
+ * ended move to {@code pendingRemovals} and are cleaned up once that chunk loads again.
+ * Blooms ready to be removed sit in {@code removalQueue}, which is drained under a per-tick budget.
+ */
+public class BloomLedger {
+
+    public static final MapCodec<BloomLedger> CODEC = RecordCodecBuilder.mapCodec(instance ->
+        instance.group(
+            Codec.LONG.listOf().optionalFieldOf("blooms", List.of()).forGetter(ledger -> flatten(ledger.blooms)),
+            Codec.LONG.listOf().optionalFieldOf("pending_removals", List.of()).forGetter(ledger -> flatten(ledger.pendingRemovals)),
+            Codec.LONG.listOf().optionalFieldOf("removal_queue", List.of()).forGetter(ledger -> new ArrayList<>(ledger.removalQueue))
+        ).apply(instance, BloomLedger::new)
+    );
+
+    // Packed chunk pos -> packed bloom positions in that chunk
+    private final Long2ObjectMap<LongSet> blooms = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<LongSet> pendingRemovals = new Long2ObjectOpenHashMap<>();
+
+    // Blooms in loaded chunks waiting to be removed, drained a budgeted amount per tick
+    private final LongLinkedOpenHashSet removalQueue = new LongLinkedOpenHashSet();
+
+    // Chunks with pending removals that have loaded since the last tick (not persisted)
+    private final LongList loadedChunksAwaitingCleanup = new LongArrayList();
+
+    public BloomLedger() {
+    }
+
+    private BloomLedger(List<Long> blooms, List<Long> pendingRemovals, List<Long> removalQueue) {
+        blooms.forEach(packed -> add(this.blooms, packed));
+        pendingRemovals.forEach(packed -> add(this.pendingRemovals, packed));
+        this.removalQueue.addAll(removalQueue);
+    }
+
+    /**
+     * Records a bloom spawned during an active aurora.
+     */
+    public void track(BlockPos pos) {
+        add(blooms, pos.asLong());
+    }
+
+    /**
+     * Forgets a bloom (e.g., harvested or wilted).
+     */
+    public void untrack(BlockPos pos) {
+        long packed = pos.asLong();
+        long chunkKey = ChunkPos.asLong(pos);
+        remove(blooms, chunkKey, packed);
+        remove(pendingRemovals, chunkKey, packed);
+        removalQueue.remove(packed);
+    }
+
+    /**
+     * Removes and returns the tracked blooms in every chunk accepted by {@code chunkFilter},
+     * bucketed by chunk (e.g., the chunks of a region whose aurora ended).
+     */
+    public Long2ObjectMap<LongSet> takeBlooms(LongPredicate chunkFilter) {
+        Long2ObjectMap<LongSet> taken = new Long2ObjectOpenHashMap<>();
+        ObjectIterator<Long2ObjectMap.Entry<LongSet>> iterator = blooms.long2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            Long2ObjectMap.Entry<LongSet> entry = iterator.next();
+            if (chunkFilter.test(entry.getLongKey())) {
+                taken.put(entry.getLongKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Defers removal of blooms in a chunk that is not currently loaded.
+     */
+    public void deferRemoval(long chunkKey, LongSet positions) {
+        pendingRemovals.computeIfAbsent(chunkKey, k -> new LongOpenHashSet()).addAll(positions);
+    }
+
+    /**
+     * Checks if a chunk has blooms waiting to be removed.
+     */
+    public boolean hasPendingRemovals(long chunkKey) {
+        return pendingRemovals.containsKey(chunkKey);
+    }
+
+    /**
+     * Removes and returns the pending removals for a chunk, or null if there are none.
+     */
+    public LongSet takePendingRemovals(long chunkKey) {
+        return pendingRemovals.remove(chunkKey);
+    }
+
+    /**
+     * Queues blooms in a loaded chunk for budgeted removal.
+     */
+    public void queueRemovals(LongSet positions) {
+        removalQueue.addAll(positions);
+    }
+
+    /**
+     * Checks if any blooms are queued for removal.
+     */
+    public boolean hasQueuedRemovals() {
+        return !removalQueue.isEmpty();
+    }
+
+    /**
+     * Removes and returns the oldest queued bloom position.
+     */
+    public long pollQueuedRemoval() {
+        return removalQueue.removeFirstLong();
+    }
+
+    /**
+     * Gets the number of blooms still queued for removal.
+     */
+    public int queuedRemovalCount() {
+        return removalQueue.size();
+    }
+
+    /**
+     * Queues a freshly loaded chunk so its pending removals are applied on the next level tick.
+     */
+    public void markChunkLoaded(long chunkKey) {
+        loadedChunksAwaitingCleanup.add(chunkKey);
+    }
+
+    /**
+     * Checks if any chunks are queued by {@link #markChunkLoaded(long)}.
+     */
+    public boolean hasLoadedChunksAwaitingCleanup() {
+        return !loadedChunksAwaitingCleanup.isEmpty();
+    }
+
+    /**
+     * Removes and returns the chunks queued by {@link #markChunkLoaded(long)}.
+     */
+    public LongList drainLoadedChunks() {
+        LongList drained = new LongArrayList(loadedChunksAwaitingCleanup);
+        loadedChunksAwaitingCleanup.clear();
+        return drained;
+    }
+
+    private static void add(Long2ObjectMap<LongSet> buckets, long packed) {
+        long chunkKey = ChunkPos.asLong(
+            SectionPos.blockToSectionCoord(BlockPos.getX(packed)),
+            SectionPos.blockToSectionCoord(BlockPos.getZ(packed)));
+        buckets.computeIfAbsent(chunkKey, k -> new LongOpenHashSet()).add(packed);
+    }
+
+    private static void remove(Long2ObjectMap<LongSet> buckets, long chunkKey, long packed) {
+        LongSet bucket = buckets.get(chunkKey);
+        if (bucket != null && bucket.remove(packed) && bucket.isEmpty()) {
+            buckets.remove(chunkKey);
+        }
+    }
+
+    private static List<Long> flatten(Long2ObjectMap<LongSet> buckets) {
+        List<Long> flat = new ArrayList<>();
+        for (LongSet bucket : buckets.values()) {
+            flat.addAll(bucket);
+        }
+        return flat;
+    }
+}
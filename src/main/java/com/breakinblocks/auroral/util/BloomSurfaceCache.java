@@ -0,0 +1,134 @@
+package com.breakinblocks.auroral.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-chunk cache of Aurora Bloom surface columns, per dimension.
+ *
+ * Each column's surface is found from the {@code MOTION_BLOCKING} heightmap and remembered
+ * as either a valid bloom surface Y (snow, powder snow or Shimmering Ice) or "no surface".
+ * Columns are resolved lazily on first lookup and reset when a block in them changes,
+ * so repeated spawn attempts are O(1) lookups instead of vertical block scans.
+ * The heightmap top each column was resolved against is remembered too, and a column whose
+ * top has since moved is resolved again - this catches changes made without neighbor
+ * updates, which never reach {@link #invalidate}.
+ */
+public final class BloomSurfaceCache {
+
+    /**
+     * Returned when a column has no valid bloom surface.
+     */
+    public static final int NO_SURFACE = Integer.MIN_VALUE;
+
+    // Column not resolved yet (or invalidated by a block change)
+    private static final int UNKNOWN = Integer.MIN_VALUE + 1;
+
+    private static final int COLUMNS = 256;
+
+    // Packed chunk pos -> surface Y per column, indexed by (localZ << 4) | localX,
+    // followed by the heightmap top each column was resolved against (same indexing, offset by COLUMNS)
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<int[]>> columnsByDimension = new ConcurrentHashMap<>();
+
+    private BloomSurfaceCache() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Gets the Y of the bloom surface block in the given column, or {@link #NO_SURFACE}.
+     * Returns {@link #NO_SURFACE} without loading anything if the chunk isn't loaded.
+     */
+    public static int getSurfaceY(ServerLevel level, int x, int z) {
+        int chunkX = SectionPos.blockToSectionCoord(x);
+        int chunkZ = SectionPos.blockToSectionCoord(z);
+        if (!level.hasChunk(chunkX, chunkZ)) {
+            return NO_SURFACE;
+        }
+
+        int[] columns = columnsByDimension
+            .computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), k -> newColumns());
+
+        int index = columnIndex(x, z);
+        int topY = level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+        int surfaceY = columns[index];
+        if (surfaceY == UNKNOWN || columns[COLUMNS + index] != topY) {
+            surfaceY = resolveSurfaceY(level, x, topY, z);
+            columns[index] = surfaceY;
+            columns[COLUMNS + index] = topY;
+        }
+        return surfaceY;
+    }
+
+    /**
+     * Resets the cached column containing a changed block.
+     */
+    public static void invalidate(Level level, BlockPos pos) {
+        Long2ObjectMap<int[]> chunks = columnsByDimension.get(level.dimension());
+        if (chunks == null) {
+            return;
+        }
+
+        int[] columns = chunks.get(ChunkPos.asLong(pos));
+        if (columns != null) {
+            columns[columnIndex(pos.getX(), pos.getZ())] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Drops the cached columns for a chunk (e.g., on chunk unload).
+     */
+    public static void invalidateChunk(Level level, ChunkPos chunkPos) {
+        Long2ObjectMap<int[]> chunks = columnsByDimension.get(level.dimension());
+        if (chunks != null) {
+            chunks.remove(chunkPos.toLong());
+        }
+    }
+
+    /**
+     * Drops every cached column for a level (e.g., when the aurora ends or the level unloads).
+     */
+    public static void clear(Level level) {
+        columnsByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Reads the heightmap surface for a column. Snow layers and powder snow may not block
+     * motion, so both the first free block and the block below it are checked.
+     */
+    private static int resolveSurfaceY(ServerLevel level, int x, int topY, int z) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, topY, z);
+
+        if (SnowBlockHelper.isBloomSurface(level.getBlockState(pos))) {
+            return topY;
+        }
+
+        pos.setY(topY - 1);
+        if (SnowBlockHelper.isBloomSurface(level.getBlockState(pos))) {
+            return topY - 1;
+        }
+
+        return NO_SURFACE;
+    }
+
+    private static int columnIndex(int x, int z) {
+        return ((z & 15) << 4) | (x & 15);
+    }
+
+    private static int[] newColumns() {
+        int[] columns = new int[COLUMNS * 2];
+        Arrays.fill(columns, 0, COLUMNS, UNKNOWN);
+        return columns;
+    }
+}
@@ -0,0 +1,138 @@
+package com.breakinblocks.auroral.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.alchemy.Potion;
+import net.minecraft.world.item.alchemy.PotionBrewing;
+import net.minecraft.world.item.alchemy.PotionContents;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoized {@link PotionBrewing} mix lookups, shared by every Cold Brewing Stand in a level.
+ *
+ * Mixes are keyed by (bottle item, potion, ingredient item) and map to the brewed result, or
+ * to {@link ItemStack#EMPTY} when there is no mix, so brew checks become a single hash lookup.
+ * Only plain stacks are cached: brewing recipes added through NeoForge may match on any data
+ * component, so a bottle carrying anything beyond a plain potion, or an ingredient with
+ * non-default components, is passed straight to {@link PotionBrewing}.
+ * A cache is tied to the {@link PotionBrewing} instance it was built from and is replaced when
+ * the level's brewing recipes change; all caches are also dropped on datapack reload.
+ *
+ * Server-side only; client levels never brew.
+ */
+public final class BrewMixCache {
+
+    private static final Map<ResourceKey<Level>, BrewMixCache> cachesByDimension = new ConcurrentHashMap<>();
+
+    private final PotionBrewing brewing;
+    private final Map<MixKey, ItemStack> mixes = new HashMap<>();
+
+    private BrewMixCache(PotionBrewing brewing) {
+        this.brewing = brewing;
+    }
+
+    /**
+     * Gets the mix cache for a level, rebuilding it if the level's brewing recipes changed.
+     */
+    public static BrewMixCache get(Level level) {
+        PotionBrewing brewing = level.potionBrewing();
+        BrewMixCache cache = cachesByDimension.get(level.dimension());
+        if (cache == null || cache.brewing != brewing) {
+            cache = new BrewMixCache(brewing);
+            cachesByDimension.put(level.dimension(), cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Drops the cache for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        cachesByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Drops every cache (e.g., on datapack reload, since ingredient tags may have changed).
+     */
+    public static void clearAll() {
+        cachesByDimension.clear();
+    }
+
+    /**
+     * Checks if an ingredient brews anything from a bottle.
+     */
+    public boolean hasMix(ItemStack bottle, ItemStack ingredient) {
+        if (bottle.isEmpty() || ingredient.isEmpty()) {
+            return false;
+        }
+
+        MixKey key = keyOf(bottle, ingredient);
+        if (key == null) {
+            return brewing.hasMix(bottle, ingredient);
+        }
+        return !lookup(key, bottle, ingredient).isEmpty();
+    }
+
+    /**
+     * Gets the result of brewing a bottle with an ingredient, or the bottle itself if there is no mix.
+     */
+    public ItemStack mix(ItemStack ingredient, ItemStack bottle) {
+        if (bottle.isEmpty() || ingredient.isEmpty()) {
+            return bottle;
+        }
+
+        MixKey key = keyOf(bottle, ingredient);
+        if (key == null) {
+            return brewing.mix(ingredient, bottle);
+        }
+        ItemStack result = lookup(key, bottle, ingredient);
+        return result.isEmpty() ? bottle : result.copy();
+    }
+
+    private ItemStack lookup(MixKey key, ItemStack bottle, ItemStack ingredient) {
+        return mixes.computeIfAbsent(key, k ->
+            brewing.hasMix(bottle, ingredient) ? brewing.mix(ingredient, bottle).copy() : ItemStack.EMPTY);
+    }
+
+    /**
+     * Gets the cache key for a mix, or null if either stack carries components the key can't
+     * capture: anything on the ingredient, or anything on the bottle besides a plain potion.
+     */
+    @Nullable
+    private static MixKey keyOf(ItemStack bottle, ItemStack ingredient) {
+        if (!ingredient.isComponentsPatchEmpty()) {
+            return null;
+        }
+        if (bottle.isComponentsPatchEmpty()) {
+            return new MixKey(bottle.getItem(), null, ingredient.getItem());
+        }
+
+        PotionContents contents = bottle.get(DataComponents.POTION_CONTENTS);
+        if (bottle.getComponentsPatch().size() != 1 || contents == null || contents.potion().isEmpty()) {
+            return null;
+        }
+        Holder<Potion> potion = contents.potion().get();
+        if (!contents.equals(new PotionContents(potion))) {
+            return null;
+        }
+        return new MixKey(bottle.getItem(), potion, ingredient.getItem());
+    }
+
+    /**
+     * A mix between plain stacks: the bottle item, its potion and the ingredient item.
+     */
+    private record MixKey(Item bottle, @Nullable Holder<Potion> potion, Item ingredient) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.breakinblocks.auroral.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk-keyed index of lit Hearthwood Log positions, per dimension.
+ * Kept current by {@link com.breakinblocks.auroral.block.HearthwoodLogBlockEntity} on load,
+ * removal/unload and LIT changes, so radius queries only visit the chunks they overlap
+ * instead of scanning every block in a cube.
+ *
+ * Server-side only; client levels are never indexed.
+ */
+public final class HearthwoodLogIndex {
+
+    // Packed chunk pos -> packed block positions of lit logs in that chunk
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<LongSet>> litLogsByDimension = new ConcurrentHashMap<>();
+
+    private HearthwoodLogIndex() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Adds or removes a log position depending on whether it is currently lit.
+     */
+    public static void update(Level level, BlockPos pos, boolean lit) {
+        if (lit) {
+            add(level, pos);
+        } else {
+            remove(level, pos);
+        }
+    }
+
+    /**
+     * Records a lit log at the given position.
+     */
+    public static void add(Level level, BlockPos pos) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        litLogsByDimension
+            .computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(pos), k -> new LongOpenHashSet())
+            .add(pos.asLong());
+    }
+
+    /**
+     * Removes a log position from the index (extinguished, broken or unloaded).
+     */
+    public static void remove(Level level, BlockPos pos) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        Long2ObjectMap<LongSet> chunks = litLogsByDimension.get(level.dimension());
+        if (chunks == null) {
+            return;
+        }
+
+        long chunkKey = ChunkPos.asLong(pos);
+        LongSet logs = chunks.get(chunkKey);
+        if (logs != null && logs.remove(pos.asLong()) && logs.isEmpty()) {
+            chunks.remove(chunkKey);
+        }
+    }
+
+    /**
+     * Drops every indexed position for the given level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        litLogsByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Checks if any lit log lies within the given radius of a position.
+     */
+    public static boolean anyWithin(Level level, BlockPos center, double radius) {
+        return countWithin(level, center, radius, 1) > 0;
+    }
+
+    /**
+     * Counts lit logs within the given radius of a position.
+     */
+    public static int countWithin(Level level, BlockPos center, double radius) {
+        return countWithin(level, center, radius, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Counts lit logs within the given radius, stopping early once {@code limit} is reached.
+     * Only the chunks overlapping the radius are visited.
+     */
+    private static int countWithin(Level level, BlockPos center, double radius, int limit) {
+        Long2ObjectMap<LongSet> chunks = litLogsByDimension.get(level.dimension());
+        if (chunks == null || chunks.isEmpty()) {
+            return 0;
+        }
+
+        int radiusInt = (int) Math.ceil(radius);
+        double radiusSq = radius * radius;
+        int minChunkX = SectionPos.blockToSectionCoord(center.getX() - radiusInt);
+        int maxChunkX = SectionPos.blockToSectionCoord(center.getX() + radiusInt);
+        int minChunkZ = SectionPos.blockToSectionCoord(center.getZ() - radiusInt);
+        int maxChunkZ = SectionPos.blockToSectionCoord(center.getZ() + radiusInt);
+
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                LongSet logs = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (logs == null) {
+                    continue;
+                }
+
+                LongIterator iterator = logs.iterator();
+                while (iterator.hasNext()) {
+                    long packed = iterator.nextLong();
+                    double dx = BlockPos.getX(packed) - center.getX();
+                    double dy = BlockPos.getY(packed) - center.getY();
+                    double dz = BlockPos.getZ(packed) - center.getZ();
+                    if (dx * dx + dy * dy + dz * dz <= radiusSq && ++count >= limit) {
+                        return count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
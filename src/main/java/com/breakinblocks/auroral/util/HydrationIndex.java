@@ -0,0 +1,287 @@
+package com.breakinblocks.auroral.util;
+
+import com.breakinblocks.auroral.block.ShimmeringIceBlock;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * Per-chunk-section index of farmland hydration sources (water and Shimmering Ice), per dimension.
+ *
+ * A section is indexed lazily the first time a hydration check touches it; sections whose
+ * block palette contains no water or Shimmering Ice are recorded as empty without a scan.
+ * Indexed sections are kept current from block change notifications and dropped when their
+ * chunk unloads. Each Shimmer Soil also remembers the source that last hydrated it, so a
+ * repeat check is a single set lookup until that source goes away. Both are bucketed by chunk,
+ * so dropping a chunk is a single removal.
+ *
+ * Server-side only; client levels are never indexed.
+ */
+public final class HydrationIndex {
+
+    /**
+     * Horizontal hydration range, as for vanilla farmland.
+     */
+    public static final int HORIZONTAL_RANGE = 4;
+
+    private static final long NO_SOURCE = Long.MAX_VALUE;
+
+    // Shared by every indexed section without sources; replaced by a real set once one appears
+    private static final LongSet NO_SOURCES = LongSets.EMPTY_SET;
+
+    // Packed chunk pos -> section Y -> indexed hydration sources in that section
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Int2ObjectMap<LongSet>>> sourcesByDimension = new ConcurrentHashMap<>();
+
+    // Packed chunk pos -> packed soil pos -> packed pos of the source that last hydrated it
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Long2LongMap>> hydratedSoilByDimension = new ConcurrentHashMap<>();
+
+    private HydrationIndex() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Checks if a block state hydrates farmland.
+     */
+    public static boolean isHydrationSource(BlockState state) {
+        return state.getBlock() instanceof ShimmeringIceBlock || state.getFluidState().is(FluidTags.WATER);
+    }
+
+    /**
+     * Checks if farmland at {@code pos} is hydrated: a source lies within 4 blocks horizontally,
+     * at the farmland's level or one above.
+     */
+    public static boolean isHydrated(ServerLevel level, BlockPos pos) {
+        Long2LongMap hydratedSoil = hydratedSoilByDimension
+            .computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(pos), k -> newSoilMap());
+        long soilKey = pos.asLong();
+
+        // Still hydrated by the same source?
+        long cached = hydratedSoil.get(soilKey);
+        if (cached != NO_SOURCE && containsSource(level, cached)) {
+            return true;
+        }
+
+        long source = findSource(level, pos, packed -> true);
+        if (source != NO_SOURCE) {
+            hydratedSoil.put(soilKey, source);
+            return true;
+        }
+        hydratedSoil.remove(soilKey);
+        return false;
+    }
+
+    /**
+     * Checks if Shimmering Ice lies within hydration range of {@code pos}.
+     */
+    public static boolean isNearShimmeringIce(ServerLevel level, BlockPos pos) {
+        return findSource(level, pos,
+            packed -> level.getBlockState(BlockPos.of(packed)).getBlock() instanceof ShimmeringIceBlock) != NO_SOURCE;
+    }
+
+    /**
+     * Updates the index for a changed block, if its section is indexed.
+     */
+    public static void onBlockChanged(Level level, BlockPos pos, BlockState state) {
+        Long2ObjectMap<Int2ObjectMap<LongSet>> chunks = sourcesByDimension.get(level.dimension());
+        if (chunks == null) {
+            return;
+        }
+
+        Int2ObjectMap<LongSet> sections = chunks.get(ChunkPos.asLong(pos));
+        if (sections == null) {
+            return;
+        }
+
+        int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+        LongSet sources = sections.get(sectionY);
+        if (sources == null) {
+            return;
+        }
+
+        if (isHydrationSource(state)) {
+            if (sources == NO_SOURCES) {
+                sources = new LongOpenHashSet();
+                sections.put(sectionY, sources);
+            }
+            sources.add(pos.asLong());
+        } else if (sources.remove(pos.asLong()) && sources.isEmpty()) {
+            sections.put(sectionY, NO_SOURCES);
+        }
+    }
+
+    /**
+     * Forgets the cached hydration of a soil block that was removed.
+     */
+    public static void forgetSoil(Level level, BlockPos pos) {
+        Long2ObjectMap<Long2LongMap> chunks = hydratedSoilByDimension.get(level.dimension());
+        if (chunks == null) {
+            return;
+        }
+
+        Long2LongMap hydratedSoil = chunks.get(ChunkPos.asLong(pos));
+        if (hydratedSoil != null) {
+            hydratedSoil.remove(pos.asLong());
+        }
+    }
+
+    /**
+     * Drops the indexed sections and cached soil of a chunk that unloaded.
+     */
+    public static void invalidateChunk(Level level, ChunkPos chunkPos) {
+        Long2ObjectMap<Int2ObjectMap<LongSet>> chunks = sourcesByDimension.get(level.dimension());
+        if (chunks != null) {
+            chunks.remove(chunkPos.toLong());
+        }
+
+        Long2ObjectMap<Long2LongMap> soilChunks = hydratedSoilByDimension.get(level.dimension());
+        if (soilChunks != null) {
+            soilChunks.remove(chunkPos.toLong());
+        }
+    }
+
+    /**
+     * Drops everything indexed for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        sourcesByDimension.remove(level.dimension());
+        hydratedSoilByDimension.remove(level.dimension());
+    }
+
+    /**
+     * Finds a source matching {@code filter} in the hydration box around {@code pos},
+     * visiting only the (at most 8) sections the box overlaps.
+     *
+     * @return The packed source pos, or {@link #NO_SOURCE}
+     */
+    private static long findSource(ServerLevel level, BlockPos pos, LongPredicate filter) {
+        int minX = pos.getX() - HORIZONTAL_RANGE;
+        int maxX = pos.getX() + HORIZONTAL_RANGE;
+        int minY = pos.getY();
+        int maxY = pos.getY() + 1;
+        int minZ = pos.getZ() - HORIZONTAL_RANGE;
+        int maxZ = pos.getZ() + HORIZONTAL_RANGE;
+
+        for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX); sectionX++) {
+            for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ); sectionZ++) {
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+                    LongSet sources = getSection(level, sectionX, sectionY, sectionZ);
+                    if (sources == null || sources == NO_SOURCES) {
+                        continue;
+                    }
+
+                    LongIterator iterator = sources.iterator();
+                    while (iterator.hasNext()) {
+                        long packed = iterator.nextLong();
+                        int x = BlockPos.getX(packed);
+                        int y = BlockPos.getY(packed);
+                        int z = BlockPos.getZ(packed);
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ
+                            && filter.test(packed)) {
+                            return packed;
+                        }
+                    }
+                }
+            }
+        }
+        return NO_SOURCE;
+    }
+
+    private static boolean containsSource(ServerLevel level, long packed) {
+        LongSet sources = getSection(level,
+            SectionPos.blockToSectionCoord(BlockPos.getX(packed)),
+            SectionPos.blockToSectionCoord(BlockPos.getY(packed)),
+            SectionPos.blockToSectionCoord(BlockPos.getZ(packed)));
+        return sources != null && sources.contains(packed);
+    }
+
+    /**
+     * Gets the indexed sources of a section, indexing it first if needed.
+     * Returns null without loading anything if the chunk isn't loaded.
+     */
+    private static LongSet getSection(ServerLevel level, int sectionX, int sectionY, int sectionZ) {
+        long chunkKey = ChunkPos.asLong(sectionX, sectionZ);
+        Long2ObjectMap<Int2ObjectMap<LongSet>> chunks = sourcesByDimension.computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>());
+        Int2ObjectMap<LongSet> sections = chunks.get(chunkKey);
+        LongSet sources = sections != null ? sections.get(sectionY) : null;
+        if (sources != null) {
+            return sources;
+        }
+
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+        if (chunk == null) {
+            return null;
+        }
+
+        if (sections == null) {
+            sections = new Int2ObjectOpenHashMap<>();
+            chunks.put(chunkKey, sections);
+        }
+        sources = indexSection(chunk, sectionX, sectionY, sectionZ);
+        sections.put(sectionY, sources);
+        return sources;
+    }
+
+    /**
+     * Scans a section for sources, returning {@link #NO_SOURCES} if it has none.
+     */
+    private static LongSet indexSection(LevelChunk chunk, int sectionX, int sectionY, int sectionZ) {
+        int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+            return NO_SOURCES;
+        }
+
+        LevelChunkSection section = chunk.getSection(sectionIndex);
+        // Skip the scan when the section's palette can't contain a source
+        if (section.hasOnlyAir() || !section.maybeHas(HydrationIndex::isHydrationSource)) {
+            return NO_SOURCES;
+        }
+
+        LongSet sources = new LongOpenHashSet();
+
+        int baseX = SectionPos.sectionToBlockCoord(sectionX);
+        int baseY = SectionPos.sectionToBlockCoord(sectionY);
+        int baseZ = SectionPos.sectionToBlockCoord(sectionZ);
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (isHydrationSource(section.getBlockState(x, y, z))) {
+                        sources.add(BlockPos.asLong(baseX + x, baseY + y, baseZ + z));
+                    }
+                }
+            }
+        }
+        return sources.isEmpty() ? NO_SOURCES : sources;
+    }
+
+    private static Long2LongMap newSoilMap() {
+        Long2LongMap map = new Long2LongOpenHashMap();
+        map.defaultReturnValue(NO_SOURCE);
+        return map;
+    }
+}
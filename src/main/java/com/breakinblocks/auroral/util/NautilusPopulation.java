@@ -0,0 +1,155 @@
+package com.breakinblocks.auroral.util;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live Auroral Nautilus population counts, per dimension.
+ *
+ * Counts are kept both level-wide and per region cell (a 4x4 chunk cluster), updated from
+ * entity join/leave and section-change events, so spawn caps are O(1) instead of walking
+ * every entity in the level.
+ */
+public final class NautilusPopulation {
+
+    /**
+     * Region cells are 4x4 chunks (64x64 blocks).
+     */
+    private static final int CELL_SHIFT = 2;
+
+    private static final Map<ResourceKey<Level>, Population> populationByDimension = new ConcurrentHashMap<>();
+
+    private NautilusPopulation() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Counts a nautilus that joined a level.
+     */
+    public static void add(Entity nautilus) {
+        Level level = nautilus.level();
+        if (level.isClientSide()) {
+            return;
+        }
+
+        Population population = populationByDimension.computeIfAbsent(level.dimension(), k -> new Population());
+        long cell = cellKey(nautilus.blockPosition());
+        long previous = population.cellByEntity.put(nautilus.getId(), cell);
+        if (previous != Population.NO_CELL) {
+            // Already counted (e.g., duplicate join) - just move it
+            decrement(population, previous);
+        } else {
+            population.total++;
+        }
+        population.countsByCell.addTo(cell, 1);
+    }
+
+    /**
+     * Stops counting a nautilus that left a level (removed or unloaded).
+     * Nautiluses that were never counted are ignored.
+     */
+    public static void remove(Entity nautilus) {
+        Level level = nautilus.level();
+        if (level.isClientSide()) {
+            return;
+        }
+
+        Population population = populationByDimension.get(level.dimension());
+        if (population == null) {
+            return;
+        }
+
+        long cell = population.cellByEntity.remove(nautilus.getId());
+        if (cell != Population.NO_CELL) {
+            population.total--;
+            decrement(population, cell);
+        }
+    }
+
+    /**
+     * Moves a nautilus to the region cell for its current position.
+     */
+    public static void move(Entity nautilus) {
+        Level level = nautilus.level();
+        if (level.isClientSide()) {
+            return;
+        }
+
+        Population population = populationByDimension.get(level.dimension());
+        if (population == null) {
+            return;
+        }
+
+        long cell = cellKey(nautilus.blockPosition());
+        long previous = population.cellByEntity.get(nautilus.getId());
+        if (previous == Population.NO_CELL || previous == cell) {
+            return;
+        }
+
+        population.cellByEntity.put(nautilus.getId(), cell);
+        decrement(population, previous);
+        population.countsByCell.addTo(cell, 1);
+    }
+
+    /**
+     * Gets the number of nautiluses in the region cell containing {@code pos}
+     * and the eight cells around it.
+     */
+    public static int countNear(Level level, BlockPos pos) {
+        Population population = populationByDimension.get(level.dimension());
+        if (population == null || population.total == 0) {
+            return 0;
+        }
+
+        int cellX = SectionPos.blockToSectionCoord(pos.getX()) >> CELL_SHIFT;
+        int cellZ = SectionPos.blockToSectionCoord(pos.getZ()) >> CELL_SHIFT;
+        int count = 0;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                count += population.countsByCell.get(ChunkPos.asLong(cellX + dx, cellZ + dz));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops all counts for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        populationByDimension.remove(level.dimension());
+    }
+
+    private static void decrement(Population population, long cell) {
+        if (population.countsByCell.addTo(cell, -1) <= 1) {
+            population.countsByCell.remove(cell);
+        }
+    }
+
+    private static long cellKey(BlockPos pos) {
+        return ChunkPos.asLong(
+            SectionPos.blockToSectionCoord(pos.getX()) >> CELL_SHIFT,
+            SectionPos.blockToSectionCoord(pos.getZ()) >> CELL_SHIFT);
+    }
+
+    private static final class Population {
+        static final long NO_CELL = Long.MIN_VALUE;
+
+        int total;
+        final Long2IntOpenHashMap countsByCell = new Long2IntOpenHashMap();
+        final Int2LongMap cellByEntity = new Int2LongOpenHashMap();
+
+        Population() {
+            cellByEntity.defaultReturnValue(NO_CELL);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.breakinblocks.auroral.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deferred "make sure this block has a scheduled tick" checks, per dimension.
+ *
+ * Blocks whose timers run on scheduled ticks (Hearthwood Log burn-out, Snow Angel fading)
+ * queue themselves here when their block entity loads, since block ticks shouldn't be
+ * scheduled from inside chunk loading. The queue is drained on the next level tick, and any
+ * block still missing its tick gets one scheduled right away; the block's own tick handler
+ * then works out how much time is actually left.
+ *
+ * Server-side only; client levels are never tracked.
+ */
+public final class PendingBlockTicks {
+
+    // Packed block pos -> block expected at that position
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Block>> pendingByDimension = new ConcurrentHashMap<>();
+
+    private PendingBlockTicks() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Queues a check that the block at {@code pos} has a scheduled tick.
+     */
+    public static void ensureScheduled(Level level, BlockPos pos, Block block) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        pendingByDimension
+            .computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>())
+            .put(pos.asLong(), block);
+    }
+
+    /**
+     * Schedules a tick for every queued block that is still in place and has none.
+     * Called once per level tick on the server thread.
+     */
+    public static void drain(ServerLevel level) {
+        Long2ObjectMap<Block> pending = pendingByDimension.get(level.dimension());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        Long2ObjectMap<Block> due = new Long2ObjectOpenHashMap<>(pending);
+        pending.clear();
+        for (Long2ObjectMap.Entry<Block> entry : due.long2ObjectEntrySet()) {
+            BlockPos pos = BlockPos.of(entry.getLongKey());
+            Block block = entry.getValue();
+            if (level.isLoaded(pos) && level.getBlockState(pos).is(block)
+                && !level.getBlockTicks().hasScheduledTick(pos, block)) {
+                level.scheduleTick(pos, block, 1);
+            }
+        }
+    }
+
+    /**
+     * Drops every queued check for a level (e.g., on level unload).
+     */
+    public static void clear(Level level) {
+        if (level.isClientSide()) {
+            return;
+        }
+
+        pendingByDimension.remove(level.dimension());
+    }
+}
@@ -1,12 +1,11 @@
 package com.breakinblocks.auroral.util;
 
-import com.breakinblocks.auroral.registry.ModBlocks;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
 /**
  * Utility class for snow-related block checks.
  * Consolidates repeated snow detection logic across the codebase.
+ * Checks are lookups in the precomputed {@link BlockStateFlags} table.
  */
 public final class SnowBlockHelper {
 
@@ -18,9 +17,7 @@ public final class SnowBlockHelper {
      * Checks if the block is any type of vanilla snow (layer, block, or powder).
      */
     public static boolean isSnow(BlockState state) {
-        return state.is(Blocks.SNOW) ||
-               state.is(Blocks.SNOW_BLOCK) ||
-               state.is(Blocks.POWDER_SNOW);
+        return BlockStateFlags.has(state, BlockStateFlags.SNOW);
     }
 
     /**
@@ -28,15 +25,14 @@ public final class SnowBlockHelper {
      * Does not include snow layers.
      */
     public static boolean isSolidSnow(BlockState state) {
-        return state.is(Blocks.SNOW_BLOCK) ||
-               state.is(Blocks.POWDER_SNOW);
+        return BlockStateFlags.has(state, BlockStateFlags.SOLID_SNOW);
     }
 
     /**
      * Checks if the block is a snow layer (not a full block).
      */
     public static boolean isSnowLayer(BlockState state) {
-        return state.is(Blocks.SNOW);
+        return BlockStateFlags.has(state, BlockStateFlags.SNOW_LAYER);
     }
 
     /**
@@ -44,8 +40,7 @@ public final class SnowBlockHelper {
      * Includes vanilla snow types and Shimmering Ice.
      */
     public static boolean isBloomSurface(BlockState state) {
-        return isSnow(state) ||
-               state.is(ModBlocks.SHIMMERING_ICE.get());
+        return BlockStateFlags.has(state, BlockStateFlags.SNOW | BlockStateFlags.SHIMMERING_ICE);
     }
 
     /**
@@ -53,8 +48,7 @@ public final class SnowBlockHelper {
      * Includes vanilla snow types and Shimmering Ice.
      */
     public static boolean isSnowOrIce(BlockState state) {
-        return isSnow(state) ||
-               state.is(ModBlocks.SHIMMERING_ICE.get());
+        return BlockStateFlags.has(state, BlockStateFlags.SNOW | BlockStateFlags.SHIMMERING_ICE);
     }
 
     /**
@@ -62,12 +56,6 @@ public final class SnowBlockHelper {
      * Includes snow types and various dirt variants.
      */
     public static boolean canTillToShimmerSoil(BlockState state) {
-        return state.is(Blocks.SNOW_BLOCK) ||
-               state.is(Blocks.POWDER_SNOW) ||
-               state.is(Blocks.DIRT) ||
-               state.is(Blocks.GRASS_BLOCK) ||
-               state.is(Blocks.DIRT_PATH) ||
-               state.is(Blocks.COARSE_DIRT) ||
-               state.is(Blocks.ROOTED_DIRT);
+        return BlockStateFlags.has(state, BlockStateFlags.SOLID_SNOW | BlockStateFlags.TILLABLE_DIRT);
     }
 }